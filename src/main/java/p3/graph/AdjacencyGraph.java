@@ -4,9 +4,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A mutable, directed, weighted graph that uses an {@link AdjacencyRepresentation} to store the graph.
+ * <p>
+ * If the representation is a {@link WeightedAdjacencyRepresentation}, the weights of the edges are stored in the
+ * representation as well. Otherwise, they are stored in a separate map.
  *
  * @param <N> the type of the nodes in this graph.
  * @see Graph
@@ -22,6 +26,8 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
 
     /**
      * A map that associates each node with its weight.
+     * <p>
+     * It is only used if {@link #representation} is not a {@link WeightedAdjacencyRepresentation}.
      */
     private final Map<N, Map<N, Integer>> weights = new HashMap<>();
 
@@ -39,6 +45,11 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
      */
     private final Map<Integer, N> indexToNode = new HashMap<>();
 
+    /**
+     * The number of modifications that have been made to this graph, see {@link #getModificationCount()}.
+     */
+    private long modificationCount = 0;
+
     /**
      * Constructs a new {@link AdjacencyGraph} which initially contains the given nodes and edges.
      * <p>
@@ -77,6 +88,7 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
         indexToNode.put(index, node);
 
         representation.grow();
+        modificationCount++;
     }
 
     @Override
@@ -84,6 +96,13 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
         checkNode(edge.from());
         checkNode(edge.to());
 
+        modificationCount++;
+
+        if (representation instanceof WeightedAdjacencyRepresentation weightedRepresentation) {
+            weightedRepresentation.addEdge(nodeToIndex.get(edge.from()), nodeToIndex.get(edge.to()), edge.weight());
+            return;
+        }
+
         representation.addEdge(nodeToIndex.get(edge.from()), nodeToIndex.get(edge.to()));
         weights.computeIfAbsent(edge.from(), k -> new HashMap<>()).put(edge.to(), edge.weight());
     }
@@ -110,29 +129,55 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
 
         Set<Edge<N>> set = new HashSet<>();
 
-        int index = nodeToIndex.get(node);
-        Set<Integer> adjacentIndices = representation.getAdjacentIndices(index);
+        forEachAdjacent(node, (toNode, weight) -> set.add(Edge.of(node, toNode, weight)));
 
-        for (int adjacentIndex : adjacentIndices) {
-            N toNode = indexToNode.get(adjacentIndex);
-            set.add(Edge.of(node, toNode, getWeight(node, toNode)));
-        }
+        return set;
+    }
+
+    @Override
+    public Set<N> getAdjacentNodes(N node) {
+        checkNode(node);
+
+        Set<N> set = new HashSet<>();
+
+        representation.forEachAdjacent(nodeToIndex.get(node), adjacentIndex -> set.add(indexToNode.get(adjacentIndex)));
 
         return set;
     }
 
+    @Override
+    public void forEachAdjacent(N node, ObjIntConsumer<? super N> action) {
+        checkNode(node);
+
+        if (representation instanceof WeightedAdjacencyRepresentation weightedRepresentation) {
+            weightedRepresentation.forEachAdjacentEdge(nodeToIndex.get(node),
+                (adjacentIndex, weight) -> action.accept(indexToNode.get(adjacentIndex), weight));
+            return;
+        }
+
+        representation.forEachAdjacent(nodeToIndex.get(node), adjacentIndex -> {
+            N toNode = indexToNode.get(adjacentIndex);
+            action.accept(toNode, getWeight(node, toNode));
+        });
+    }
+
     @Override
     public Set<Edge<N>> getIngoingEdges(N node) {
         checkNode(node);
 
         Set<Edge<N>> set = new HashSet<>();
 
-        for (N fromNode : nodeToIndex.keySet()) {
-            if (representation.hasEdge(nodeToIndex.get(fromNode), nodeToIndex.get(node))) {
-                set.add(Edge.of(fromNode, node, getWeight(fromNode, node)));
-            }
+        if (representation instanceof WeightedAdjacencyRepresentation weightedRepresentation) {
+            weightedRepresentation.forEachIncomingEdge(nodeToIndex.get(node),
+                (fromIndex, weight) -> set.add(Edge.of(indexToNode.get(fromIndex), node, weight)));
+            return set;
         }
 
+        representation.forEachIncoming(nodeToIndex.get(node), fromIndex -> {
+            N fromNode = indexToNode.get(fromIndex);
+            set.add(Edge.of(fromNode, node, getWeight(fromNode, node)));
+        });
+
         return set;
     }
 
@@ -148,6 +193,11 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
         return null;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Calculates the weight of the edge that starts at the node {@code from} and ends at the node {@code to}.
      *
@@ -157,6 +207,10 @@ public class AdjacencyGraph<N> implements MutableGraph<N> {
      * if there is no such edge.
      */
     private Integer getWeight(N from, N to) {
+        if (representation instanceof WeightedAdjacencyRepresentation weightedRepresentation) {
+            return weightedRepresentation.getWeight(nodeToIndex.get(from), nodeToIndex.get(to));
+        }
+
         return weights.get(from).get(to);
     }
 
@@ -2,29 +2,89 @@ package p3.graph;
 
 import p3.solver.MSTCalculator;
 
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * A representation of a directed graph using an array of linked lists.
  * <p>
  * The array is accessed with the indices of the nodes. The list at index {@code i} contains the indices of the nodes
- * the node with index {@code i} is connected to.
+ * the node with index {@code i} is connected to. The array may be longer than the number of represented nodes to leave
+ * room for nodes added with {@link #grow()}.
+ * <p>
+ * The weights of the edges are stored in a parallel array of {@code int} rows: the weight of the edge to the node at
+ * position {@code k} of the list at index {@code i} is stored at position {@code k} of the weight row at index {@code i}.
+ * Each weight row is enlarged by doubling when an edge is appended to a full row.
+ * <p>
+ * Optionally, the representation maintains a second, transposed array of growable {@code int} rows that contains for
+ * each node the indices of the nodes that are connected to it, together with the weights of these edges. This makes
+ * {@link #forEachIncoming(int, IntConsumer)} and {@link #forEachIncomingEdge(int, WeightedIndexConsumer)} proportional
+ * to the number of ingoing edges at the cost of storing every edge twice.
  *
  * @see AdjacencyRepresentation
+ * @see WeightedAdjacencyRepresentation
  */
-public class AdjacencyList implements AdjacencyRepresentation {
+public class AdjacencyList implements WeightedAdjacencyRepresentation {
 
     /**
      * A factory that creates an empty {@link AdjacencyList} with the given initial size.
      */
     public static final AdjacencyRepresentation.Factory FACTORY = AdjacencyList::new;
 
+    /**
+     * A factory that creates an empty {@link AdjacencyList} with the given initial size that maintains a transposed
+     * index of the ingoing edges.
+     */
+    public static final AdjacencyRepresentation.Factory TRANSPOSED_FACTORY = size -> new AdjacencyList(size, true);
+
+    /**
+     * The initial length of a row of {@code int} values when the first edge is added to it.
+     */
+    private static final int INITIAL_ROW_CAPACITY = 4;
+
+    /**
+     * The row of a node without outgoing edges.
+     */
+    private static final int[] EMPTY_ROW = new int[0];
+
     /**
      * The underlying array that stores the adjacencyList.
      */
     private LinkedList<Integer>[] adjacencyList;
 
+    /**
+     * The weights of the edges stored in {@link #adjacencyList}. Entries beyond the length of a row have the weight
+     * {@code 0}.
+     */
+    private int[][] weights;
+
+    /**
+     * The transposed adjacencyList, i.e., the row at index {@code i} contains the indices of the nodes that are
+     * connected to the node with index {@code i}. It is {@code null} if no transposed index is maintained.
+     */
+    private int[][] incomingList;
+
+    /**
+     * The number of used entries of each row of {@link #incomingList}, or {@code null} if no transposed index is
+     * maintained.
+     */
+    private int[] incomingSizes;
+
+    /**
+     * The weights of the edges stored in {@link #incomingList}, or {@code null} if no transposed index is maintained.
+     * Each row has the same length as the corresponding row of {@link #incomingList}.
+     */
+    private int[][] incomingWeights;
+
+    /**
+     * The number of represented nodes, i.e., the number of used entries in {@link #adjacencyList}.
+     */
+    private int size;
+
     /**
      * Creates a new {@link AdjacencyList} with the given size.
      * <p>
@@ -32,49 +92,291 @@ public class AdjacencyList implements AdjacencyRepresentation {
      *
      * @param size The amount of nodes in the graph.
      */
-    @SuppressWarnings("unchecked")
     public AdjacencyList(int size) {
-        adjacencyList = new LinkedList[size];
+        this(size, false);
+    }
+
+    /**
+     * Creates a new {@link AdjacencyList} with the given size that optionally maintains a transposed index of the
+     * ingoing edges.
+     * <p>
+     * Initially, the adjacencyList is empty, i.e., no connections between nodes exist.
+     *
+     * @param size       The amount of nodes in the graph.
+     * @param transposed whether to maintain a transposed index of the ingoing edges.
+     */
+    public AdjacencyList(int size, boolean transposed) {
+        adjacencyList = newLists(size);
+        weights = new int[size][];
+        this.size = size;
 
         for (int i = 0; i < size; i++) {
             adjacencyList[i] = new LinkedList<>();
         }
+        Arrays.fill(weights, EMPTY_ROW);
+
+        if (transposed) {
+            incomingList = new int[size][];
+            incomingSizes = new int[size];
+            incomingWeights = new int[size][];
+
+            Arrays.fill(incomingList, EMPTY_ROW);
+            Arrays.fill(incomingWeights, EMPTY_ROW);
+        }
     }
 
     @Override
     public void addEdge(int from, int to) {
+        checkIndex(from);
         checkIndex(to);
         if (!adjacencyList[from].contains(to)) {
-            adjacencyList[from].add(to);
+            appendEdge(from, to, 0);
+        }
+    }
+
+    @Override
+    public void addEdge(int from, int to, int weight) {
+        checkIndex(from);
+        checkIndex(to);
+
+        int position = adjacencyList[from].indexOf(to);
+
+        if (position < 0) {
+            appendEdge(from, to, weight);
+            return;
+        }
+
+        setWeightAt(from, position, weight);
+
+        if (incomingList != null) {
+            incomingWeights[to][indexOf(incomingList, incomingSizes, to, from)] = weight;
         }
     }
 
     @Override
     public boolean hasEdge(int from, int to) {
+        checkIndex(from);
         checkIndex(to);
         return adjacencyList[from].contains(to);
     }
 
     @Override
     public Set<Integer> getAdjacentIndices(int index) {
+        checkIndex(index);
         return Set.copyOf(adjacencyList[index]);
     }
 
+    @Override
+    public void forEachAdjacent(int index, IntConsumer action) {
+        checkIndex(index);
+        for (int adjacentIndex : adjacencyList[index]) {
+            action.accept(adjacentIndex);
+        }
+    }
+
+    @Override
+    public void forEachAdjacentEdge(int index, WeightedIndexConsumer action) {
+        checkIndex(index);
+
+        int position = 0;
+        for (int adjacentIndex : adjacencyList[index]) {
+            action.accept(adjacentIndex, getWeightAt(index, position));
+            position++;
+        }
+    }
+
+    @Override
+    public void forEachIncoming(int index, IntConsumer action) {
+        if (incomingList == null) {
+            WeightedAdjacencyRepresentation.super.forEachIncoming(index, action);
+            return;
+        }
+
+        checkIndex(index);
+
+        int[] row = incomingList[index];
+
+        for (int position = 0; position < incomingSizes[index]; position++) {
+            action.accept(row[position]);
+        }
+    }
+
+    @Override
+    public void forEachIncomingEdge(int index, WeightedIndexConsumer action) {
+        if (incomingList == null) {
+            WeightedAdjacencyRepresentation.super.forEachIncomingEdge(index, action);
+            return;
+        }
+
+        checkIndex(index);
+
+        int[] row = incomingList[index];
+        int[] weightRow = incomingWeights[index];
+
+        for (int position = 0; position < incomingSizes[index]; position++) {
+            action.accept(row[position], weightRow[position]);
+        }
+    }
+
+    @Override
+    public int getWeight(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+
+        ListIterator<Integer> iterator = adjacencyList[from].listIterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == to) {
+                return getWeightAt(from, iterator.previousIndex());
+            }
+        }
+
+        throw new NoSuchElementException("No edge from index %d to index %d".formatted(from, to));
+    }
+
     @Override
     public int size() {
-        return adjacencyList.length;
+        return size;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void grow() {
-        LinkedList<Integer>[] newAdjacencyList = new LinkedList[adjacencyList.length + 1];
+        if (size == adjacencyList.length) {
+            ensureCapacity(Math.max(1, adjacencyList.length * 2));
+        }
 
-        System.arraycopy(adjacencyList, 0, newAdjacencyList, 0, adjacencyList.length);
+        adjacencyList[size] = new LinkedList<>();
+        weights[size] = EMPTY_ROW;
+        if (incomingList != null) {
+            incomingList[size] = EMPTY_ROW;
+            incomingWeights[size] = EMPTY_ROW;
+            incomingSizes[size] = 0;
+        }
+        size++;
+    }
 
-        newAdjacencyList[adjacencyList.length] = new LinkedList<>();
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity <= adjacencyList.length) {
+            return;
+        }
+
+        LinkedList<Integer>[] newAdjacencyList = newLists(capacity);
+
+        System.arraycopy(adjacencyList, 0, newAdjacencyList, 0, size);
 
         adjacencyList = newAdjacencyList;
+        weights = Arrays.copyOf(weights, capacity);
+
+        if (incomingList != null) {
+            incomingList = Arrays.copyOf(incomingList, capacity);
+            incomingSizes = Arrays.copyOf(incomingSizes, capacity);
+            incomingWeights = Arrays.copyOf(incomingWeights, capacity);
+        }
+    }
+
+    /**
+     * Appends a new edge with the given weight to the list of {@code from} and, if it is maintained, to the transposed
+     * row of {@code to}.
+     *
+     * @param from   the index of the node the edge starts at.
+     * @param to     the index of the node the edge ends at.
+     * @param weight the weight of the edge.
+     */
+    private void appendEdge(int from, int to, int weight) {
+        adjacencyList[from].add(to);
+        setWeightAt(from, adjacencyList[from].size() - 1, weight);
+
+        if (incomingList != null) {
+            append(incomingList, incomingWeights, incomingSizes, to, from, weight);
+        }
+    }
+
+    /**
+     * Returns the weight of the edge stored at the given position of the list at the given index.
+     *
+     * @param index    the index of the list.
+     * @param position the position of the edge in the list.
+     * @return the weight of the edge.
+     */
+    private int getWeightAt(int index, int position) {
+        int[] row = weights[index];
+        return row != null && position < row.length ? row[position] : 0;
+    }
+
+    /**
+     * Sets the weight of the edge stored at the given position of the list at the given index, enlarging the weight
+     * row by doubling if it is too short.
+     *
+     * @param index    the index of the list.
+     * @param position the position of the edge in the list.
+     * @param weight   the new weight of the edge.
+     */
+    private void setWeightAt(int index, int position, int weight) {
+        int[] row = weights[index] != null ? weights[index] : EMPTY_ROW;
+
+        if (position >= row.length) {
+            row = Arrays.copyOf(row, Math.max(INITIAL_ROW_CAPACITY, Math.max(row.length * 2, position + 1)));
+            weights[index] = row;
+        }
+
+        row[position] = weight;
+    }
+
+    /**
+     * Creates a new array of linked lists with the given length, all of whose entries are {@code null}.
+     *
+     * @param length the length of the array.
+     * @return the new array.
+     */
+    @SuppressWarnings("unchecked")
+    private static LinkedList<Integer>[] newLists(int length) {
+        return (LinkedList<Integer>[]) new LinkedList<?>[length];
+    }
+
+    /**
+     * Returns the position of the given value in the row at the given index.
+     *
+     * @param rows  the rows to search in.
+     * @param sizes the number of used entries of each row.
+     * @param index the index of the row.
+     * @param value the value to search for.
+     * @return the position of {@code value} in the row, or {@code -1} if the row does not contain it.
+     */
+    private static int indexOf(int[][] rows, int[] sizes, int index, int value) {
+        int[] row = rows[index];
+
+        for (int position = 0; position < sizes[index]; position++) {
+            if (row[position] == value) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Appends the given value and weight to the row at the given index and its weight row, enlarging both if they are
+     * full.
+     *
+     * @param rows       the rows to append to.
+     * @param weightRows the weight rows to append to.
+     * @param sizes      the number of used entries of each row.
+     * @param index      the index of the row.
+     * @param value      the value to append.
+     * @param weight     the weight to append.
+     */
+    private static void append(int[][] rows, int[][] weightRows, int[] sizes, int index, int value, int weight) {
+        int position = sizes[index];
+
+        if (position == rows[index].length) {
+            int capacity = Math.max(INITIAL_ROW_CAPACITY, position * 2);
+            rows[index] = Arrays.copyOf(rows[index], capacity);
+            weightRows[index] = Arrays.copyOf(weightRows[index], capacity);
+        }
+
+        rows[index][position] = value;
+        weightRows[index][position] = weight;
+        sizes[index] = position + 1;
     }
 
     /**
@@ -85,7 +387,7 @@ public class AdjacencyList implements AdjacencyRepresentation {
      * @throws IndexOutOfBoundsException if the index is out of bounds.
      */
     private void checkIndex(int index) {
-        if (index < 0 || index >= adjacencyList.length) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index out of bounds: " + index);
         }
     }
@@ -2,6 +2,7 @@ package p3.graph;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * A light wrapper around a 2D array of boolean that represents an adjacency matrix.
@@ -9,21 +10,29 @@ import java.util.Set;
  * The adjacency matrix is a square matrix that represents a directed graph. The entry at index (i, j) is {@code true}, iff
  * a connection from the node with index {@code i} to the node with index {@code j} exists. Otherwise, the entry is
  * {@code false}.
+ * <p>
+ * The array may be larger than the number of represented nodes to leave room for nodes added with {@link #grow()}.
  *
  * @see AdjacencyRepresentation
+ * @see BitAdjacencyMatrix
  */
 public class AdjacencyMatrix implements AdjacencyRepresentation {
 
     /**
      * A factory that creates an empty {@link AdjacencyMatrix} with the given initial size.
      */
-    public static final AdjacencyRepresentation.Factory FACTORY = AdjacencyList::new;
+    public static final AdjacencyRepresentation.Factory FACTORY = AdjacencyMatrix::new;
 
     /**
      * The underlying array that stores the adjacency matrix.
      */
     private boolean[][] matrix;
 
+    /**
+     * The number of represented nodes, i.e., the number of used rows and columns in {@link #matrix}.
+     */
+    private int size;
+
     /**
      * Constructs a new {@link AdjacencyMatrix} with the given size.
      * <p>
@@ -33,24 +42,30 @@ public class AdjacencyMatrix implements AdjacencyRepresentation {
      */
     public AdjacencyMatrix(int size) {
         matrix = new boolean[size][size];
+        this.size = size;
     }
 
     @Override
     public void addEdge(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
         matrix[from][to] = true;
     }
 
     @Override
     public boolean hasEdge(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
         return matrix[from][to];
     }
 
     @Override
     public Set<Integer> getAdjacentIndices(int index) {
+        checkIndex(index);
 
         Set<Integer> adjacentIndices = new HashSet<>();
 
-        for (int i = 0; i < matrix.length; i++) {
+        for (int i = 0; i < size; i++) {
             if (matrix[index][i]) {
                 adjacentIndices.add(i);
             }
@@ -59,23 +74,69 @@ public class AdjacencyMatrix implements AdjacencyRepresentation {
         return adjacentIndices;
     }
 
+    @Override
+    public void forEachAdjacent(int index, IntConsumer action) {
+        checkIndex(index);
+
+        for (int i = 0; i < size; i++) {
+            if (matrix[index][i]) {
+                action.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public void forEachIncoming(int index, IntConsumer action) {
+        checkIndex(index);
+
+        for (int i = 0; i < size; i++) {
+            if (matrix[i][index]) {
+                action.accept(i);
+            }
+        }
+    }
+
     @Override
     public int size() {
-        return matrix.length;
+        return size;
     }
 
     @Override
     public void grow() {
+        if (size == matrix.length) {
+            ensureCapacity(Math.max(1, matrix.length * 2));
+        }
+
+        size++;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity <= matrix.length) {
+            return;
+        }
 
-        // Create a new matrix with one more row and column
-        int newSize = matrix.length + 1;
-        boolean[][] newMatrix = new boolean[newSize][newSize];
+        // Create a new matrix with the requested number of rows and columns
+        boolean[][] newMatrix = new boolean[capacity][capacity];
 
         // Copy the old matrix into the new matrix
-        for (int i = 0; i < matrix.length; i++) {
-            System.arraycopy(matrix[i], 0, newMatrix[i], 0, matrix[i].length);
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(matrix[i], 0, newMatrix[i], 0, size);
         }
 
         matrix = newMatrix;
     }
+
+    /**
+     * Checks whether the given index is in the range of the represented nodes and throws an
+     * {@link IndexOutOfBoundsException} if it is not.
+     *
+     * @param index the index to check.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package p3.graph;
 
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * An interface for representing a directed graph using adjacency information for each node, i.e., storing for each node the
@@ -12,11 +13,14 @@ import java.util.Set;
  * The representation is directed, i.e., an edge from node {@code A} to node {@code B} is different from an
  * edge from node {@code B} to node {@code A}. The existence of one of them does not imply the existence of the other.
  * <p>
- * The representation assumes a fixed number of nodes. The number of nodes can be increased by calling {@link #grow()},
- * however, this usually comes with a performance penalty.
+ * The representation assumes a fixed number of nodes. The number of nodes can be increased by calling {@link #grow()}.
+ * Implementations may reserve space for more nodes than they currently represent, so that repeated calls of
+ * {@link #grow()} take amortized constant time. The space can also be reserved up front with {@link #ensureCapacity(int)}.
  *
  * @see AdjacencyMatrix
  * @see AdjacencyList
+ * @see BitAdjacencyMatrix
+ * @see CsrAdjacency
  */
 public interface AdjacencyRepresentation {
 
@@ -49,6 +53,45 @@ public interface AdjacencyRepresentation {
      */
     Set<Integer> getAdjacentIndices(int index);
 
+    /**
+     * Performs the given action for the index of each node that is adjacent to the node at the given index.
+     * <p>
+     * In contrast to {@link #getAdjacentIndices(int)}, implementations should neither allocate a new collection nor
+     * box the indices. The default implementation delegates to {@link #getAdjacentIndices(int)}.
+     *
+     * @param index  the index of the node to get the adjacent nodes of.
+     * @param action the action to perform for the index of each adjacent node.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    default void forEachAdjacent(int index, IntConsumer action) {
+        for (int adjacentIndex : getAdjacentIndices(index)) {
+            action.accept(adjacentIndex);
+        }
+    }
+
+    /**
+     * Performs the given action for the index of each node that has an edge to the node at the given index.
+     * <p>
+     * The default implementation checks every represented node with {@link #hasEdge(int, int)}, which takes time linear
+     * in the number of nodes. Implementations that maintain a transposed index answer this in time linear in the number
+     * of ingoing edges.
+     *
+     * @param index  the index of the node to get the predecessors of.
+     * @param action the action to perform for the index of each node with an edge to the given node.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    default void forEachIncoming(int index, IntConsumer action) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+
+        for (int i = 0; i < size(); i++) {
+            if (hasEdge(i, index)) {
+                action.accept(i);
+            }
+        }
+    }
+
     /**
      * Returns the number of represented nodes.
      *
@@ -62,11 +105,45 @@ public interface AdjacencyRepresentation {
      * <p>
      * This method effectively adds a new, unconnected node with index {@link #size()} to the graph.
      * <p>
-     * Note that this method usually comes with a performance penalty, as it may require copying the entire
-     * representation to a new, larger one.
+     * If the representation has no space reserved for the new node, it may have to copy the entire representation
+     * to a new, larger one. Implementations should then reserve space for multiple additional nodes at once, so that
+     * the cost is amortized over the following calls.
      */
     void grow();
 
+    /**
+     * Increases the size of the representation by the given number of nodes. The information about the previous nodes
+     * is preserved.
+     * <p>
+     * Calling this method is equivalent to calling {@link #grow()} {@code additional} times, but the space for all
+     * new nodes is reserved at once.
+     *
+     * @param additional the number of nodes to add.
+     * @throws IllegalArgumentException if {@code additional} is negative.
+     */
+    default void grow(int additional) {
+        if (additional < 0) {
+            throw new IllegalArgumentException("Cannot grow by a negative amount: " + additional);
+        }
+
+        ensureCapacity(Math.addExact(size(), additional));
+
+        for (int i = 0; i < additional; i++) {
+            grow();
+        }
+    }
+
+    /**
+     * Reserves space for at least the given number of nodes, so that the representation can grow up to this size
+     * without copying its storage. The size of the representation is not changed.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param capacity the number of nodes to reserve space for.
+     */
+    default void ensureCapacity(int capacity) {
+    }
+
     /**
      * A factory for creating new instances of {@link AdjacencyRepresentation}.
      */
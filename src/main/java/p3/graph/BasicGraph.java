@@ -1,10 +1,17 @@
 package p3.graph;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A simple implementation of an immutable {@link Graph}.
+ * <p>
+ * On construction, the edges are indexed by the node they start at and by the node they end at, so that the outgoing
+ * and ingoing edges of a node and the edge between two nodes can be determined without iterating over all edges.
+ * Parallel edges, i.e., different edges that connect the same nodes, are all kept.
  *
  * @param <N> the type of the nodes in the graph.
  */
@@ -20,6 +27,25 @@ public class BasicGraph<N> implements Graph<N> {
      */
     private final Set<Edge<N>> edges;
 
+    /**
+     * A map from each node to the edges that start at it.
+     * Only nodes with at least one outgoing edge are contained as keys.
+     */
+    private final Map<N, Set<Edge<N>>> outgoingEdges = new HashMap<>();
+
+    /**
+     * A map from each node to a map from the nodes it is connected to to one of the edges connecting them, which is
+     * returned by {@link #getEdge(Object, Object)}.
+     * Only nodes with at least one outgoing edge are contained as keys.
+     */
+    private final Map<N, Map<N, Edge<N>>> edgesBetween = new HashMap<>();
+
+    /**
+     * A map from each node to the edges that end at it.
+     * Only nodes with at least one ingoing edge are contained as keys.
+     */
+    private final Map<N, Set<Edge<N>>> ingoingEdges = new HashMap<>();
+
     /**
      * Creates a new {@link BasicGraph} with the given nodes and edges.
      *
@@ -29,6 +55,12 @@ public class BasicGraph<N> implements Graph<N> {
     public BasicGraph(Set<N> nodes, Set<Edge<N>> edges) {
         this.nodes = Set.copyOf(nodes);
         this.edges = Set.copyOf(edges);
+
+        for (Edge<N> edge : this.edges) {
+            outgoingEdges.computeIfAbsent(edge.from(), k -> new HashSet<>()).add(edge);
+            edgesBetween.computeIfAbsent(edge.from(), k -> new HashMap<>()).putIfAbsent(edge.to(), edge);
+            ingoingEdges.computeIfAbsent(edge.to(), k -> new HashSet<>()).add(edge);
+        }
     }
 
     @Override
@@ -43,23 +75,33 @@ public class BasicGraph<N> implements Graph<N> {
 
     @Override
     public Set<Edge<N>> getOutgoingEdges(N node) {
-        return edges.stream()
-                .filter(edge -> edge.from().equals(node))
-                .collect(Collectors.toSet());
+        return new HashSet<>(outgoingEdges.getOrDefault(node, Set.of()));
     }
 
     @Override
     public Set<Edge<N>> getIngoingEdges(N node) {
-        return edges.stream()
-                .filter(edge -> edge.to().equals(node))
-                .collect(Collectors.toSet());
+        return new HashSet<>(ingoingEdges.getOrDefault(node, Set.of()));
+    }
+
+    @Override
+    public void forEachAdjacent(N node, ObjIntConsumer<? super N> action) {
+        for (Edge<N> outgoingEdge : outgoingEdges.getOrDefault(node, Set.of())) {
+            action.accept(outgoingEdge.to(), outgoingEdge.weight());
+        }
     }
 
     @Override
     public Edge<N> getEdge(N from, N to) {
-        return edges.stream()
-                .filter(edge -> edge.from().equals(from) && edge.to().equals(to))
-                .findFirst()
-                .orElse(null);
+        return edgesBetween.getOrDefault(from, Map.of()).get(to);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A {@link BasicGraph} is immutable, so this method always returns {@code 0}.
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
     }
 }
@@ -0,0 +1,180 @@
+package p3.graph;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * An adjacency matrix that stores each entry as a single bit of a {@code long} word.
+ * <p>
+ * Like {@link AdjacencyMatrix}, the bit at row {@code i} and column {@code j} is set, iff a connection from the node
+ * with index {@code i} to the node with index {@code j} exists. All rows are stored one after another in a single
+ * {@code long} array, each row occupying the same number of words. Compared to a {@code boolean[][]}, this uses an
+ * eighth of the memory and allows skipping 64 absent edges at once when iterating over the adjacent nodes.
+ * <p>
+ * The matrix reserves space for more nodes than it currently represents. When {@link #grow()} exceeds that capacity,
+ * the capacity is doubled, so that adding nodes one by one takes amortized constant time per node and row. Space for a
+ * known number of nodes can be reserved with {@link #ensureCapacity(int)}.
+ *
+ * @see AdjacencyRepresentation
+ * @see AdjacencyMatrix
+ */
+public class BitAdjacencyMatrix implements AdjacencyRepresentation {
+
+    /**
+     * A factory that creates an empty {@link BitAdjacencyMatrix} with the given initial size.
+     */
+    public static final AdjacencyRepresentation.Factory FACTORY = BitAdjacencyMatrix::new;
+
+    /**
+     * The number of represented nodes.
+     */
+    private int size;
+
+    /**
+     * The number of nodes the matrix can represent without reallocating {@link #words}.
+     */
+    private int capacity;
+
+    /**
+     * The number of {@code long} words used for each row.
+     */
+    private int wordsPerRow;
+
+    /**
+     * The rows of the matrix, stored one after another. Row {@code i} occupies the words
+     * {@code [i * wordsPerRow, (i + 1) * wordsPerRow)}.
+     */
+    private long[] words;
+
+    /**
+     * Constructs a new {@link BitAdjacencyMatrix} with the given size.
+     * <p>
+     * Initially, the matrix is empty, i.e., no connections between nodes exist.
+     *
+     * @param size The amount of nodes in the graph.
+     */
+    public BitAdjacencyMatrix(int size) {
+        this.size = size;
+        this.capacity = size;
+        this.wordsPerRow = wordsFor(size);
+        this.words = new long[Math.multiplyExact(size, wordsPerRow)];
+    }
+
+    @Override
+    public void addEdge(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        words[from * wordsPerRow + (to >>> 6)] |= 1L << to;
+    }
+
+    @Override
+    public boolean hasEdge(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        return (words[from * wordsPerRow + (to >>> 6)] & (1L << to)) != 0;
+    }
+
+    @Override
+    public Set<Integer> getAdjacentIndices(int index) {
+        Set<Integer> adjacentIndices = new HashSet<>();
+
+        forEachAdjacent(index, adjacentIndices::add);
+
+        return adjacentIndices;
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntConsumer action) {
+        checkIndex(index);
+
+        int rowStart = index * wordsPerRow;
+
+        for (int i = 0; i < wordsPerRow; i++) {
+            long word = words[rowStart + i];
+
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                // Clear the lowest set bit
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public void forEachIncoming(int index, IntConsumer action) {
+        checkIndex(index);
+
+        int wordIndex = index >>> 6;
+        long mask = 1L << index;
+
+        for (int i = 0; i < size; i++) {
+            if ((words[i * wordsPerRow + wordIndex] & mask) != 0) {
+                action.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void grow() {
+        if (size == capacity) {
+            resize(Math.max(1, capacity * 2));
+        }
+
+        size++;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.capacity) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Changes the capacity of the matrix to the given value, preserving all existing entries.
+     *
+     * @param newCapacity the new capacity, at least {@link #size}.
+     */
+    private void resize(int newCapacity) {
+        int newWordsPerRow = wordsFor(newCapacity);
+        long[] newWords = new long[Math.multiplyExact(newCapacity, newWordsPerRow)];
+
+        // Copy each row into its new, possibly wider, place
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(words, i * wordsPerRow, newWords, i * newWordsPerRow, wordsPerRow);
+        }
+
+        words = newWords;
+        wordsPerRow = newWordsPerRow;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns the number of {@code long} words needed to store the given number of bits.
+     *
+     * @param bits the number of bits.
+     * @return the number of words needed.
+     */
+    private static int wordsFor(int bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Checks whether the given index is in the range of the represented nodes and throws an
+     * {@link IndexOutOfBoundsException} if it is not.
+     *
+     * @param index the index to check.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package p3.graph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * A representation of a directed graph in compressed sparse row (CSR) format.
+ * <p>
+ * All adjacency information is packed into two {@code int} arrays: {@code targets} contains the indices of the adjacent
+ * nodes of all nodes one after another, and {@code offsets} stores for each node {@code i} the range
+ * {@code [offsets[i], offsets[i + 1])} of {@code targets} that belongs to it. Each of these rows is sorted, so that
+ * {@link #hasEdge(int, int)} can be answered with a binary search. The weight of each edge is stored in a third array
+ * at the same position (slot) as its target. A transposed index of the ingoing edges in the same format is built
+ * together with the packed arrays.
+ * <p>
+ * The representation is meant for graphs that are built once and read many times. Edges added with
+ * {@link #addEdge(int, int)} are buffered and chained per start and per end node, and reads combine the packed rows
+ * with these chains without changing any state. The buffered edges are merged into the packed arrays by
+ * {@link #freeze()}, after which the representation can no longer be modified, and whenever more edges are buffered
+ * than packed, so that building the representation takes {@code O(|E| log |E|)} time in total.
+ * <p>
+ * Reads from several threads are safe as long as no edges are added or nodes grown at the same time, in particular
+ * after {@link #freeze()} has been called.
+ *
+ * @see AdjacencyRepresentation
+ * @see WeightedAdjacencyRepresentation
+ */
+public class CsrAdjacency implements WeightedAdjacencyRepresentation {
+
+    /**
+     * A factory that creates an empty {@link CsrAdjacency} with the given initial size.
+     */
+    public static final AdjacencyRepresentation.Factory FACTORY = CsrAdjacency::new;
+
+    /**
+     * The initial capacity of the buffers for pending edges, which is also the smallest number of pending edges that
+     * are merged into the packed arrays before {@link #freeze()} is called.
+     */
+    private static final int INITIAL_PENDING_CAPACITY = 16;
+
+    /**
+     * The value of a chain link or head that marks the end of the chain.
+     */
+    private static final int NO_PENDING = -1;
+
+    /**
+     * The number of represented nodes.
+     */
+    private int size;
+
+    /**
+     * The start of the row of each node in {@link #targets}. The row of node {@code i} ends at {@code offsets[i + 1]}.
+     * The array may be longer than {@code size + 1} to leave room for nodes added with {@link #grow()}.
+     */
+    private int[] offsets;
+
+    /**
+     * The sorted rows of adjacent indices of all nodes.
+     */
+    private int[] targets;
+
+    /**
+     * The weight of the edge to each entry of {@link #targets}.
+     */
+    private int[] weights;
+
+    /**
+     * The start of the row of each node in {@link #reverseSources}. It has the same length as {@link #offsets}.
+     */
+    private int[] reverseOffsets;
+
+    /**
+     * The sorted rows of the indices of the nodes that have an edge to each node.
+     */
+    private int[] reverseSources;
+
+    /**
+     * The start indices of the edges that have been added, but not yet merged into {@link #targets}.
+     */
+    private int[] pendingFrom = new int[0];
+
+    /**
+     * The end indices of the edges that have been added, but not yet merged into {@link #targets}.
+     */
+    private int[] pendingTo = new int[0];
+
+    /**
+     * The weights of the edges that have been added, but not yet merged into {@link #weights}.
+     */
+    private int[] pendingWeights = new int[0];
+
+    /**
+     * Whether the corresponding pending edge has been added with a weight. Pending edges without a weight do not
+     * overwrite the weight of an existing edge.
+     */
+    private boolean[] pendingWeighted = new boolean[0];
+
+    /**
+     * The most recently added pending edge that starts at each node, or {@link #NO_PENDING}.
+     */
+    private int[] pendingHeads;
+
+    /**
+     * The pending edge that was added before each pending edge and starts at the same node, or {@link #NO_PENDING}.
+     */
+    private int[] pendingNext = new int[0];
+
+    /**
+     * The most recently added pending edge that ends at each node, or {@link #NO_PENDING}.
+     */
+    private int[] pendingReverseHeads;
+
+    /**
+     * The pending edge that was added before each pending edge and ends at the same node, or {@link #NO_PENDING}.
+     */
+    private int[] pendingReverseNext = new int[0];
+
+    /**
+     * The number of valid entries in {@link #pendingFrom} and {@link #pendingTo}.
+     */
+    private int pendingCount = 0;
+
+    /**
+     * Whether this representation has been frozen and can no longer be modified.
+     */
+    private boolean frozen = false;
+
+    /**
+     * Creates a new {@link CsrAdjacency} with the given size.
+     * <p>
+     * Initially, no connections between nodes exist.
+     *
+     * @param size The amount of nodes in the graph.
+     */
+    public CsrAdjacency(int size) {
+        this.size = size;
+        this.offsets = new int[size + 1];
+        this.targets = new int[0];
+        this.weights = new int[0];
+        this.reverseOffsets = new int[size + 1];
+        this.reverseSources = new int[0];
+        this.pendingHeads = new int[size];
+        this.pendingReverseHeads = new int[size];
+
+        Arrays.fill(pendingHeads, NO_PENDING);
+        Arrays.fill(pendingReverseHeads, NO_PENDING);
+    }
+
+    @Override
+    public void addEdge(int from, int to) {
+        addPending(from, to, 0, false);
+    }
+
+    @Override
+    public void addEdge(int from, int to, int weight) {
+        addPending(from, to, weight, true);
+    }
+
+    @Override
+    public boolean hasEdge(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+
+        if (Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to) >= 0) {
+            return true;
+        }
+
+        for (int pending = pendingHeads[from]; pending != NO_PENDING; pending = pendingNext[pending]) {
+            if (pendingTo[pending] == to) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Set<Integer> getAdjacentIndices(int index) {
+        Set<Integer> adjacentIndices = new HashSet<>();
+
+        forEachAdjacent(index, adjacentIndices::add);
+
+        return adjacentIndices;
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntConsumer action) {
+        checkIndex(index);
+
+        if (pendingHeads[index] == NO_PENDING) {
+            for (int slot = offsets[index]; slot < offsets[index + 1]; slot++) {
+                action.accept(targets[slot]);
+            }
+            return;
+        }
+
+        forEachAdjacentEdge(index, (adjacentIndex, weight) -> action.accept(adjacentIndex));
+    }
+
+    @Override
+    public void forEachAdjacentEdge(int index, WeightedIndexConsumer action) {
+        checkIndex(index);
+
+        long[] pending = pendingChain(pendingHeads, pendingNext, pendingTo, index);
+        int slot = offsets[index];
+        int end = offsets[index + 1];
+        int position = 0;
+
+        // Merge the sorted packed row with the sorted pending edges, letting the last weighted occurrence win
+        while (slot < end || position < pending.length) {
+            int packedTarget = slot < end ? targets[slot] : Integer.MAX_VALUE;
+            int pendingTarget = position < pending.length ? (int) (pending[position] >>> 32) : Integer.MAX_VALUE;
+            int target = Math.min(packedTarget, pendingTarget);
+            int weight = packedTarget == target ? weights[slot++] : 0;
+
+            for (; position < pending.length && (int) (pending[position] >>> 32) == target; position++) {
+                int id = (int) pending[position];
+
+                if (pendingWeighted[id]) {
+                    weight = pendingWeights[id];
+                }
+            }
+
+            action.accept(target, weight);
+        }
+    }
+
+    @Override
+    public void forEachIncoming(int index, IntConsumer action) {
+        checkIndex(index);
+
+        long[] pending = pendingChain(pendingReverseHeads, pendingReverseNext, pendingFrom, index);
+        int slot = reverseOffsets[index];
+        int end = reverseOffsets[index + 1];
+        int position = 0;
+
+        while (slot < end || position < pending.length) {
+            int packedSource = slot < end ? reverseSources[slot] : Integer.MAX_VALUE;
+            int pendingSource = position < pending.length ? (int) (pending[position] >>> 32) : Integer.MAX_VALUE;
+            int source = Math.min(packedSource, pendingSource);
+
+            if (packedSource == source) {
+                slot++;
+            }
+            while (position < pending.length && (int) (pending[position] >>> 32) == source) {
+                position++;
+            }
+
+            action.accept(source);
+        }
+    }
+
+    @Override
+    public int getWeight(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+
+        boolean pendingEdge = false;
+
+        // The chain starts with the most recently added edge, so the first weighted occurrence is the current weight
+        for (int pending = pendingHeads[from]; pending != NO_PENDING; pending = pendingNext[pending]) {
+            if (pendingTo[pending] == to) {
+                if (pendingWeighted[pending]) {
+                    return pendingWeights[pending];
+                }
+
+                pendingEdge = true;
+            }
+        }
+
+        int slot = Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to);
+
+        if (slot >= 0) {
+            return weights[slot];
+        } else if (pendingEdge) {
+            return 0;
+        }
+
+        throw new NoSuchElementException("No edge from index %d to index %d".formatted(from, to));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void grow() {
+        checkModifiable();
+
+        if (size + 1 == offsets.length) {
+            ensureCapacity(Math.max(1, size * 2));
+        }
+
+        offsets[size + 1] = offsets[size];
+        reverseOffsets[size + 1] = reverseOffsets[size];
+        pendingHeads[size] = NO_PENDING;
+        pendingReverseHeads[size] = NO_PENDING;
+        size++;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        checkModifiable();
+
+        if (capacity + 1 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+            reverseOffsets = Arrays.copyOf(reverseOffsets, capacity + 1);
+            pendingHeads = Arrays.copyOf(pendingHeads, capacity);
+            pendingReverseHeads = Arrays.copyOf(pendingReverseHeads, capacity);
+        }
+    }
+
+    /**
+     * Merges all pending edges into the packed arrays and prevents any further modification of this representation.
+     * <p>
+     * Calling this method more than once has no additional effect.
+     */
+    public void freeze() {
+        compact();
+        frozen = true;
+        pendingFrom = new int[0];
+        pendingTo = new int[0];
+        pendingWeights = new int[0];
+        pendingWeighted = new boolean[0];
+        pendingNext = new int[0];
+        pendingReverseNext = new int[0];
+    }
+
+    /**
+     * Returns whether this representation has been frozen.
+     *
+     * @return {@code true} if {@link #freeze()} has been called, {@code false} otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns the number of edges in this representation.
+     *
+     * @return the number of edges in this representation.
+     */
+    public int edgeCount() {
+        if (pendingCount == 0) {
+            return offsets[size];
+        }
+
+        // Count each pending edge once, and only if it is not packed already
+        long[] pending = new long[pendingCount];
+
+        for (int i = 0; i < pendingCount; i++) {
+            pending[i] = (long) pendingFrom[i] << 32 | pendingTo[i];
+        }
+
+        Arrays.sort(pending);
+
+        int count = offsets[size];
+
+        for (int i = 0; i < pendingCount; i++) {
+            int from = (int) (pending[i] >>> 32);
+            int to = (int) pending[i];
+
+            if ((i == 0 || pending[i] != pending[i - 1])
+                && Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to) < 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Buffers the given edge until the pending edges are merged into the packed arrays. The edges are merged as soon as
+     * more edges are pending than packed.
+     *
+     * @param from     the index of the node the edge starts at.
+     * @param to       the index of the node the edge ends at.
+     * @param weight   the weight of the edge.
+     * @param weighted whether the weight should overwrite the weight of an already existing edge.
+     */
+    private void addPending(int from, int to, int weight, boolean weighted) {
+        checkModifiable();
+        checkIndex(from);
+        checkIndex(to);
+
+        if (pendingCount == pendingFrom.length) {
+            int newCapacity = Math.max(INITIAL_PENDING_CAPACITY, pendingCount * 2);
+            pendingFrom = Arrays.copyOf(pendingFrom, newCapacity);
+            pendingTo = Arrays.copyOf(pendingTo, newCapacity);
+            pendingWeights = Arrays.copyOf(pendingWeights, newCapacity);
+            pendingWeighted = Arrays.copyOf(pendingWeighted, newCapacity);
+            pendingNext = Arrays.copyOf(pendingNext, newCapacity);
+            pendingReverseNext = Arrays.copyOf(pendingReverseNext, newCapacity);
+        }
+
+        pendingFrom[pendingCount] = from;
+        pendingTo[pendingCount] = to;
+        pendingWeights[pendingCount] = weight;
+        pendingWeighted[pendingCount] = weighted;
+        pendingNext[pendingCount] = pendingHeads[from];
+        pendingHeads[from] = pendingCount;
+        pendingReverseNext[pendingCount] = pendingReverseHeads[to];
+        pendingReverseHeads[to] = pendingCount;
+        pendingCount++;
+
+        if (pendingCount >= INITIAL_PENDING_CAPACITY && pendingCount > offsets[size]) {
+            compact();
+        }
+    }
+
+    /**
+     * Collects the pending edges of the chain that starts at the head of the given node, sorted by the given end point
+     * and, for equal end points, in the order in which they were added.
+     *
+     * @param heads     the head of the chain of each node.
+     * @param next      the link to the next pending edge of each pending edge.
+     * @param endpoints the end point of each pending edge to sort by.
+     * @param index     the index of the node whose chain to collect.
+     * @return the pending edges, each packed with its end point in the upper and its position in the buffers in the
+     * lower 32 bits.
+     */
+    private static long[] pendingChain(int[] heads, int[] next, int[] endpoints, int index) {
+        int length = 0;
+
+        for (int pending = heads[index]; pending != NO_PENDING; pending = next[pending]) {
+            length++;
+        }
+
+        long[] chain = new long[length];
+        int position = 0;
+
+        for (int pending = heads[index]; pending != NO_PENDING; pending = next[pending]) {
+            chain[position++] = (long) endpoints[pending] << 32 | pending;
+        }
+
+        Arrays.sort(chain);
+        return chain;
+    }
+
+    /**
+     * Merges the pending edges into {@link #offsets}, {@link #targets} and {@link #weights}, keeping each row sorted
+     * and free of duplicates, and rebuilds the transposed index.
+     * <p>
+     * If an edge occurs more than once, the weight of the last weighted occurrence is kept. Existing edges count as
+     * weighted occurrences that precede all pending ones.
+     * <p>
+     * This method does nothing if there are no pending edges.
+     */
+    private void compact() {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        int edgeCount = offsets[size];
+
+        // Count the (possibly duplicate) entries of each row
+        int[] rowStart = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            rowStart[i + 1] = offsets[i + 1] - offsets[i];
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            rowStart[pendingFrom[i] + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            rowStart[i + 1] += rowStart[i];
+        }
+
+        // Scatter the existing and pending entries into their rows. Each entry is packed as the target in the upper
+        // and its insertion order in the lower half of a long, so that sorting a row groups duplicates in order.
+        long[] merged = new long[rowStart[size]];
+        int[] fill = Arrays.copyOf(rowStart, size);
+        for (int i = 0; i < size; i++) {
+            for (int slot = offsets[i]; slot < offsets[i + 1]; slot++) {
+                merged[fill[i]++] = (long) targets[slot] << 32 | slot;
+            }
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            merged[fill[pendingFrom[i]]++] = (long) pendingTo[i] << 32 | (edgeCount + i);
+        }
+
+        // Sort each row and drop duplicates while packing the rows together again
+        int[] newOffsets = new int[offsets.length];
+        int[] newTargets = new int[merged.length];
+        int[] newWeights = new int[merged.length];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            Arrays.sort(merged, rowStart[i], rowStart[i + 1]);
+            newOffsets[i] = count;
+            for (int slot = rowStart[i]; slot < rowStart[i + 1]; slot++) {
+                int target = (int) (merged[slot] >>> 32);
+                int order = (int) merged[slot];
+
+                if (slot == rowStart[i] || target != newTargets[count - 1]) {
+                    newTargets[count] = target;
+                    newWeights[count] = 0;
+                    count++;
+                }
+
+                if (order < edgeCount) {
+                    newWeights[count - 1] = weights[order];
+                } else if (pendingWeighted[order - edgeCount]) {
+                    newWeights[count - 1] = pendingWeights[order - edgeCount];
+                }
+            }
+        }
+        newOffsets[size] = count;
+
+        offsets = newOffsets;
+        targets = count == newTargets.length ? newTargets : Arrays.copyOf(newTargets, count);
+        weights = count == newWeights.length ? newWeights : Arrays.copyOf(newWeights, count);
+        pendingCount = 0;
+        Arrays.fill(pendingHeads, 0, size, NO_PENDING);
+        Arrays.fill(pendingReverseHeads, 0, size, NO_PENDING);
+        buildReverseIndex();
+    }
+
+    /**
+     * Builds the transposed index {@link #reverseOffsets} and {@link #reverseSources} from the packed arrays.
+     * <p>
+     * Since the rows are scattered in order of their start node, every row of the transposed index is sorted as well.
+     */
+    private void buildReverseIndex() {
+        int edgeCount = offsets[size];
+        int[] newReverseOffsets = new int[offsets.length];
+
+        for (int slot = 0; slot < edgeCount; slot++) {
+            newReverseOffsets[targets[slot] + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            newReverseOffsets[i + 1] += newReverseOffsets[i];
+        }
+
+        int[] newReverseSources = new int[edgeCount];
+        int[] fill = Arrays.copyOf(newReverseOffsets, size);
+        for (int i = 0; i < size; i++) {
+            for (int slot = offsets[i]; slot < offsets[i + 1]; slot++) {
+                newReverseSources[fill[targets[slot]]++] = i;
+            }
+        }
+
+        reverseOffsets = newReverseOffsets;
+        reverseSources = newReverseSources;
+    }
+
+    /**
+     * Checks whether this representation may still be modified and throws an {@link UnsupportedOperationException}
+     * if it has been frozen.
+     *
+     * @throws UnsupportedOperationException if this representation has been frozen.
+     */
+    private void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The representation has been frozen and cannot be modified");
+        }
+    }
+
+    /**
+     * Checks whether the given index is in the range of the represented nodes and throws an
+     * {@link IndexOutOfBoundsException} if it is not.
+     *
+     * @param index the index to check.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package p3.graph;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A directed, weighted, immutable graph with nodes of type {@code N}.
@@ -18,6 +19,11 @@ import java.util.Set;
  */
 public interface Graph<N> {
 
+    /**
+     * The value returned by {@link #getModificationCount()} of graphs that do not count their modifications.
+     */
+    long UNTRACKED_MODIFICATIONS = -1;
+
     /**
      * Returns all nodes in this graph.
      *
@@ -87,6 +93,23 @@ public interface Graph<N> {
         return adjacentNodes;
     }
 
+    /**
+     * Performs the given action for each edge that starts at the given node. The action receives the node the edge
+     * ends at and the weight of the edge.
+     * <p>
+     * In contrast to {@link #getOutgoingEdges(Object)}, implementations should avoid allocating a new set and
+     * {@link Edge} objects. The default implementation delegates to {@link #getOutgoingEdges(Object)}.
+     *
+     * @param node   the node to get the outgoing edges for.
+     * @param action the action that accepts the node each outgoing edge ends at and the weight of that edge.
+     * @throws IllegalArgumentException if the given node is not in the graph.
+     */
+    default void forEachAdjacent(N node, ObjIntConsumer<? super N> action) {
+        for (Edge<N> outgoingEdge : getOutgoingEdges(node)) {
+            action.accept(outgoingEdge.to(), outgoingEdge.weight());
+        }
+    }
+
     /**
      * Returns the edge that starts at the given node and ends at the other given node.
      *
@@ -97,8 +120,40 @@ public interface Graph<N> {
      */
     Edge<N> getEdge(N from, N to);
 
+    /**
+     * Returns the number of modifications that have been made to this graph.
+     * <p>
+     * The value changes whenever a node or an edge is added or the weight of an edge is changed, so that derived data,
+     * such as cached shortest paths, can detect that it is out of date by comparing it to the value at the time it was
+     * computed, see {@link #isUnmodifiedSince(long)}. Immutable graphs always return {@code 0}.
+     * <p>
+     * The default implementation returns {@link #UNTRACKED_MODIFICATIONS}, so that data derived from a graph that does
+     * not count its modifications is never considered up-to-date.
+     *
+     * @return the number of modifications that have been made to this graph.
+     */
+    default long getModificationCount() {
+        return UNTRACKED_MODIFICATIONS;
+    }
+
+    /**
+     * Returns whether this graph has not been modified since {@link #getModificationCount()} returned the given value.
+     * <p>
+     * If the graph does not count its modifications, it may have been modified at any time, so {@code false} is
+     * returned.
+     *
+     * @param modificationCount a value previously returned by {@link #getModificationCount()}.
+     * @return {@code true} if the graph is known to be unmodified, {@code false} otherwise.
+     */
+    default boolean isUnmodifiedSince(long modificationCount) {
+        return modificationCount != UNTRACKED_MODIFICATIONS && modificationCount == getModificationCount();
+    }
+
     /**
      * Creates a new {@link Graph} with the given nodes and edges.
+     * <p>
+     * The returned graph indexes its edges on creation, so that querying the edges of a node takes time proportional
+     * to the number of these edges.
      *
      * @param nodes the nodes in the graph.
      * @param edges the edges in the graph.
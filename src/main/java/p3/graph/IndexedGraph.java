@@ -0,0 +1,379 @@
+package p3.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of a {@link Graph} in which every node is identified by a dense index in the range
+ * {@code [0, size() - 1]}.
+ * <p>
+ * The edges are stored in compressed sparse row format: the outgoing edges of the node with index {@code i} occupy the
+ * slots {@code [firstEdge(i), endEdge(i))}, and {@link #target(int)} and {@link #weight(int)} return the index of the
+ * node an edge ends at and its weight. Iterating over the edges of a node therefore neither allocates nor boxes, which
+ * makes this class the common input format of the index-based algorithms in {@code p3.solver}.
+ * <p>
+ * A transposed index of the ingoing edges in the same format is built on the first call of {@link #firstIncoming(int)}.
+ * <p>
+ * The snapshot does not observe later modifications of the graph it was created from.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public final class IndexedGraph<N> {
+
+    /**
+     * The node with each index.
+     */
+    private final Object[] nodes;
+
+    /**
+     * A map from each node to its index. This map is the inverse of {@link #nodes}.
+     */
+    private final Map<N, Integer> indices;
+
+    /**
+     * The first slot of the outgoing edges of each node. The edges of node {@code i} end at {@code offsets[i + 1]}.
+     */
+    private final int[] offsets;
+
+    /**
+     * The index of the node each edge ends at.
+     */
+    private final int[] targets;
+
+    /**
+     * The weight of each edge.
+     */
+    private final int[] weights;
+
+    /**
+     * Whether at least one edge has a negative weight.
+     */
+    private final boolean negativeWeights;
+
+    /**
+     * The first slot of the ingoing edges of each node, or {@code null} if the transposed index has not been built yet.
+     */
+    private volatile int[] reverseOffsets;
+
+    /**
+     * The index of the node each ingoing edge starts at.
+     */
+    private int[] reverseSources;
+
+    /**
+     * The weight of each ingoing edge.
+     */
+    private int[] reverseWeights;
+
+    /**
+     * Creates a new {@link IndexedGraph} from the given arrays.
+     *
+     * @param nodes           the node with each index.
+     * @param indices         the index of each node.
+     * @param offsets         the first slot of the outgoing edges of each node.
+     * @param targets         the index of the node each edge ends at.
+     * @param weights         the weight of each edge.
+     * @param negativeWeights whether at least one edge has a negative weight.
+     */
+    private IndexedGraph(Object[] nodes, Map<N, Integer> indices, int[] offsets, int[] targets, int[] weights,
+                         boolean negativeWeights) {
+        this.nodes = nodes;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.negativeWeights = negativeWeights;
+    }
+
+    /**
+     * Creates a snapshot of the given graph.
+     * <p>
+     * The nodes are indexed in the iteration order of {@link Graph#getNodes()}, and the outgoing edges of each node are
+     * stored in the order in which {@link Graph#forEachAdjacent(Object, java.util.function.ObjIntConsumer)} reports them.
+     *
+     * @param graph the graph to create a snapshot of.
+     * @param <N>   the type of the nodes in the graph.
+     * @return a new snapshot of the given graph.
+     */
+    public static <N> IndexedGraph<N> of(Graph<N> graph) {
+        Object[] nodes = graph.getNodes().toArray();
+        Map<N, Integer> indices = new HashMap<>();
+
+        for (int i = 0; i < nodes.length; i++) {
+            indices.put(node(nodes, i), i);
+        }
+
+        int[] offsets = new int[nodes.length + 1];
+        EdgeBuffer buffer = new EdgeBuffer();
+
+        for (int i = 0; i < nodes.length; i++) {
+            graph.forEachAdjacent(node(nodes, i), (to, weight) -> buffer.add(indices.get(to), weight));
+            offsets[i + 1] = buffer.size;
+        }
+
+        return new IndexedGraph<>(nodes, indices, offsets,
+            Arrays.copyOf(buffer.targets, buffer.size), Arrays.copyOf(buffer.weights, buffer.size),
+            buffer.negativeWeights);
+    }
+
+    /**
+     * Returns the number of nodes in the graph.
+     *
+     * @return the number of nodes in the graph.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     *
+     * @return the number of edges in the graph.
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the node with the given index.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    public N nodeAt(int index) {
+        return node(nodes, index);
+    }
+
+    /**
+     * Returns the index of the given node.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the given node.
+     * @throws IllegalArgumentException if the given node is not in the graph.
+     */
+    public int indexOf(N node) {
+        Integer index = indices.get(node);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Node %s is not part of this graph".formatted(node));
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns whether the given node is in the graph.
+     *
+     * @param node the node to check.
+     * @return {@code true} if the node is in the graph, {@code false} otherwise.
+     */
+    public boolean contains(N node) {
+        return indices.containsKey(node);
+    }
+
+    /**
+     * Returns the first slot of the outgoing edges of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the first slot of the outgoing edges of the node.
+     */
+    public int firstEdge(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the slot after the last outgoing edge of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the slot after the last outgoing edge of the node.
+     */
+    public int endEdge(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Returns the index of the node the edge in the given slot ends at.
+     *
+     * @param slot the slot of the edge.
+     * @return the index of the node the edge ends at.
+     */
+    public int target(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * Returns the weight of the edge in the given slot.
+     *
+     * @param slot the slot of the edge.
+     * @return the weight of the edge.
+     */
+    public int weight(int slot) {
+        return weights[slot];
+    }
+
+    /**
+     * Returns a new array that contains the index of the node each edge starts at, i.e., the element at position
+     * {@code slot} is the node whose outgoing edges include {@code slot}.
+     *
+     * @return the index of the node each edge starts at.
+     */
+    public int[] edgeSources() {
+        int[] sources = new int[targets.length];
+
+        for (int i = 0; i < nodes.length; i++) {
+            Arrays.fill(sources, offsets[i], offsets[i + 1], i);
+        }
+
+        return sources;
+    }
+
+    /**
+     * Returns the first slot of the ingoing edges of the node with the given index, building the transposed index if
+     * necessary.
+     *
+     * @param index the index of the node.
+     * @return the first slot of the ingoing edges of the node.
+     */
+    public int firstIncoming(int index) {
+        if (reverseOffsets == null) {
+            buildReverseIndex();
+        }
+
+        return reverseOffsets[index];
+    }
+
+    /**
+     * Returns the slot after the last ingoing edge of the node with the given index. Must only be called after
+     * {@link #firstIncoming(int)}.
+     *
+     * @param index the index of the node.
+     * @return the slot after the last ingoing edge of the node.
+     */
+    public int endIncoming(int index) {
+        return reverseOffsets[index + 1];
+    }
+
+    /**
+     * Returns the index of the node the ingoing edge in the given slot starts at.
+     *
+     * @param slot the slot of the ingoing edge.
+     * @return the index of the node the edge starts at.
+     */
+    public int source(int slot) {
+        return reverseSources[slot];
+    }
+
+    /**
+     * Returns the weight of the ingoing edge in the given slot.
+     *
+     * @param slot the slot of the ingoing edge.
+     * @return the weight of the edge.
+     */
+    public int incomingWeight(int slot) {
+        return reverseWeights[slot];
+    }
+
+    /**
+     * Returns whether the graph contains an edge with a negative weight. The result is determined once when the
+     * snapshot is created.
+     *
+     * @return {@code true} if at least one edge has a negative weight, {@code false} otherwise.
+     */
+    public boolean hasNegativeWeights() {
+        return negativeWeights;
+    }
+
+    /**
+     * Builds the transposed index {@link #reverseOffsets}, {@link #reverseSources} and {@link #reverseWeights}.
+     */
+    private synchronized void buildReverseIndex() {
+        if (reverseOffsets != null) {
+            return;
+        }
+
+        int size = nodes.length;
+        int[] newReverseOffsets = new int[size + 1];
+
+        for (int target : targets) {
+            newReverseOffsets[target + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            newReverseOffsets[i + 1] += newReverseOffsets[i];
+        }
+
+        int[] newReverseSources = new int[targets.length];
+        int[] newReverseWeights = new int[targets.length];
+        int[] fill = Arrays.copyOf(newReverseOffsets, size);
+
+        for (int i = 0; i < size; i++) {
+            for (int slot = offsets[i]; slot < offsets[i + 1]; slot++) {
+                int position = fill[targets[slot]]++;
+                newReverseSources[position] = i;
+                newReverseWeights[position] = weights[slot];
+            }
+        }
+
+        reverseSources = newReverseSources;
+        reverseWeights = newReverseWeights;
+        reverseOffsets = newReverseOffsets;
+    }
+
+    /**
+     * Returns the node with the given index from the given array.
+     *
+     * @param nodes the array of nodes.
+     * @param index the index of the node.
+     * @param <N>   the type of the nodes.
+     * @return the node with the given index.
+     */
+    @SuppressWarnings("unchecked")
+    private static <N> N node(Object[] nodes, int index) {
+        return (N) nodes[index];
+    }
+
+    /**
+     * A growable buffer for the targets and weights of the edges while a snapshot is created.
+     */
+    private static final class EdgeBuffer {
+
+        /**
+         * The index of the node each buffered edge ends at.
+         */
+        private int[] targets = new int[16];
+
+        /**
+         * The weight of each buffered edge.
+         */
+        private int[] weights = new int[16];
+
+        /**
+         * The number of buffered edges.
+         */
+        private int size = 0;
+
+        /**
+         * Whether at least one buffered edge has a negative weight.
+         */
+        private boolean negativeWeights = false;
+
+        /**
+         * Appends an edge to the buffer.
+         *
+         * @param target the index of the node the edge ends at.
+         * @param weight the weight of the edge.
+         */
+        private void add(int target, int weight) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+
+            targets[size] = target;
+            weights[size] = weight;
+            negativeWeights |= weight < 0;
+            size++;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Set;
  * A directed, weighted, mutable graph with nodes of type {@code N}.
  * <p>
  * Implementations of this interface are mutable, i.e., nodes and edges can be added to the graph after its creation.
+ * Implementations should override {@link #getModificationCount()} so that every such change increases its value.
+ * Otherwise, data derived from the graph cannot be reused and is recomputed for every query.
  *
  * @param <N> the type of the nodes in this graph.
  * @see Graph
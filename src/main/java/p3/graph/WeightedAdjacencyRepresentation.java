@@ -0,0 +1,84 @@
+package p3.graph;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link AdjacencyRepresentation} that additionally stores a weight for each edge.
+ * <p>
+ * The weights are stored next to the adjacency information, so that looking up the weight of an edge does not require
+ * a separate data structure. {@link AdjacencyGraph} uses representations implementing this interface to store the
+ * weights of its edges.
+ * <p>
+ * Edges added with {@link #addEdge(int, int)} have the weight {@code 0}, unless they already exist, in which case their
+ * weight is not changed.
+ *
+ * @see AdjacencyRepresentation
+ * @see AdjacencyList
+ * @see CsrAdjacency
+ */
+public interface WeightedAdjacencyRepresentation extends AdjacencyRepresentation {
+
+    /**
+     * Adds an edge with the given weight between the given indices. If the edge already exists, only its weight is
+     * updated.
+     *
+     * @param from   the index of the node the edge starts at.
+     * @param to     the index of the node the edge ends at.
+     * @param weight the weight of the edge.
+     * @throws IndexOutOfBoundsException if either {@code from} or {@code to} is not in the range {@code [0, size() - 1]}.
+     */
+    void addEdge(int from, int to, int weight);
+
+    /**
+     * Returns the weight of the edge that starts at the node with index {@code from} and ends at the node with index
+     * {@code to}.
+     *
+     * @param from the index of the node the edge starts at.
+     * @param to   the index of the node the edge ends at.
+     * @return the weight of the edge.
+     * @throws IndexOutOfBoundsException if either {@code from} or {@code to} is not in the range {@code [0, size() - 1]}.
+     * @throws NoSuchElementException    if there is no edge between the nodes at the given indices.
+     */
+    int getWeight(int from, int to);
+
+    /**
+     * Performs the given action for each edge that starts at the node at the given index. The action receives the
+     * index of the node the edge ends at and the weight of the edge.
+     *
+     * @param index  the index of the node to get the outgoing edges of.
+     * @param action the action to perform for each outgoing edge.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    void forEachAdjacentEdge(int index, WeightedIndexConsumer action);
+
+    /**
+     * Performs the given action for each edge that ends at the node at the given index. The action receives the index
+     * of the node the edge starts at and the weight of the edge.
+     * <p>
+     * The default implementation looks up the weight of each edge found by {@link #forEachIncoming(int, IntConsumer)}
+     * with {@link #getWeight(int, int)}. Implementations that store the weights of the ingoing edges should override it.
+     *
+     * @param index  the index of the node to get the ingoing edges of.
+     * @param action the action to perform for each ingoing edge.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    default void forEachIncomingEdge(int index, WeightedIndexConsumer action) {
+        forEachIncoming(index, fromIndex -> action.accept(fromIndex, getWeight(fromIndex, index)));
+    }
+
+    /**
+     * An operation that accepts the index of an adjacent node and the weight of the edge leading to it.
+     */
+    @FunctionalInterface
+    interface WeightedIndexConsumer {
+
+        /**
+         * Performs this operation on the given arguments.
+         *
+         * @param index  the index of the adjacent node.
+         * @param weight the weight of the edge to the adjacent node.
+         */
+        void accept(int index, int weight);
+    }
+}
@@ -0,0 +1,135 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses the A* algorithm to calculate the shortest path
+ * between two nodes in a {@link Graph}.
+ * <p>
+ * A* works like Dijkstra's algorithm, but orders the nodes in the {@link IndexedMinHeap} by their distance from the
+ * start node plus an estimate of their distance to the end node. The estimate is provided by a heuristic, which is
+ * called with a node and the end node. If the heuristic never overestimates the actual distance, the calculated path is
+ * a shortest path. The better the estimate, the fewer nodes are settled before the end node is reached. A heuristic
+ * that always returns {@code 0} makes the algorithm equivalent to Dijkstra's algorithm.
+ * <p>
+ * The heuristic is evaluated at most once per node and query. Nodes that are reached by a shorter path after being
+ * settled are processed again, so a heuristic that is admissible but not consistent still yields shortest paths.
+ * <p>
+ * Like Dijkstra's algorithm, A* requires non-negative weights. If the end node is not reachable from the start node, an
+ * empty list is returned.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class AStarPathCalculator<N> extends IndexedPathCalculator<N> {
+
+    /**
+     * The heuristic that estimates the distance from a node to the end node.
+     */
+    private final ToIntBiFunction<? super N, ? super N> heuristic;
+
+    /**
+     * The number of nodes settled by the last call of {@link #calculatePath(Object, Object)}.
+     */
+    private int settledCount = 0;
+
+    /**
+     * Creates a new {@link AStarPathCalculator} for the given graph.
+     *
+     * @param graph     the graph to calculate the shortest path in.
+     * @param heuristic the heuristic that estimates the distance from the first given node to the second given node. It
+     *                  must not return negative values.
+     */
+    public AStarPathCalculator(Graph<N> graph, ToIntBiFunction<? super N, ? super N> heuristic) {
+        super(graph);
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Returns a heuristic that estimates the distance between two nodes by the euclidean distance of their coordinates,
+     * rounded down.
+     * <p>
+     * The heuristic is admissible if the weight of every edge is at least the euclidean distance of its end nodes.
+     *
+     * @param x   a function that returns the x coordinate of a node.
+     * @param y   a function that returns the y coordinate of a node.
+     * @param <N> the type of the nodes in the graph.
+     * @return the euclidean heuristic.
+     */
+    public static <N> ToIntBiFunction<N, N> euclidean(ToIntFunction<? super N> x, ToIntFunction<? super N> y) {
+        return (node, end) -> (int) Math.hypot(
+            (double) x.applyAsInt(node) - x.applyAsInt(end),
+            (double) y.applyAsInt(node) - y.applyAsInt(end)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start or end node
+     *                                  is not part of the graph.
+     */
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+        int startIndex = indexedGraph.indexOf(start);
+        int endIndex = indexedGraph.indexOf(end);
+        int size = indexedGraph.size();
+
+        int[] distances = new int[size];
+        int[] predecessors = new int[size];
+        // The estimate of each node, or -1 if it has not been evaluated yet
+        int[] estimates = new int[size];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        Arrays.fill(estimates, -1);
+
+        IndexedMinHeap queue = new IndexedMinHeap(size);
+        distances[startIndex] = 0;
+        queue.insert(startIndex, 0);
+        settledCount = 0;
+
+        while (!queue.isEmpty()) {
+            int node = queue.extractMin();
+            settledCount++;
+
+            if (node == endIndex) {
+                break;
+            }
+
+            for (int slot = indexedGraph.firstEdge(node); slot < indexedGraph.endEdge(node); slot++) {
+                int to = indexedGraph.target(slot);
+                int distance = distances[node] + indexedGraph.weight(slot);
+
+                if (distance < distances[to]) {
+                    if (estimates[to] < 0) {
+                        estimates[to] = heuristic.applyAsInt(indexedGraph.nodeAt(to), end);
+                    }
+
+                    distances[to] = distance;
+                    predecessors[to] = node;
+                    queue.insertOrDecrease(to, (int) Math.min(Integer.MAX_VALUE, (long) distance + estimates[to]));
+                }
+            }
+        }
+
+        return reconstructPath(indexedGraph, predecessors, startIndex, endIndex);
+    }
+
+    /**
+     * Returns the number of nodes settled by the last call of {@link #calculatePath(Object, Object)}, including the end
+     * node.
+     *
+     * @return the number of settled nodes.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+}
@@ -0,0 +1,37 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+/**
+ * Interface for calculating the shortest paths between all pairs of nodes in a given {@link Graph}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public interface AllPairsCalculator<N> {
+
+    /**
+     * Calculate the distances between all pairs of nodes in the graph.
+     * <p>
+     * The result is a {@link DistanceMatrix} that contains the distance from every node to every other node and,
+     * depending on the implementation and its configuration, the next hop on each shortest path.
+     *
+     * @return the distances between all pairs of nodes.
+     * @throws CycleException if a negative cycle is detected.
+     */
+    DistanceMatrix<N> calculateAllPairs();
+
+    /**
+     * A factory for creating new instances of {@link AllPairsCalculator}.
+     */
+    interface Factory {
+
+        /**
+         * Create a new instance of {@link AllPairsCalculator} for the given graph.
+         *
+         * @param graph the graph to calculate the distances in.
+         * @param <N>   the type of the nodes in the graph.
+         * @return a new instance of {@link AllPairsCalculator} using the given graph.
+         */
+        <N> AllPairsCalculator<N> create(Graph<N> graph);
+    }
+}
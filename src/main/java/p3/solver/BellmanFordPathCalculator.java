@@ -7,11 +7,19 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
 
 /**
  * An implementation of the {@link PathCalculator} interface that uses the Bellman-Ford algorithm to calculate the
  * shortest path between two nodes in a {@link Graph}.
+ * <p>
+ * By default, the algorithm always performs {@code |V| - 1} passes over all edges. In early-exit mode (see
+ * {@link #EARLY_EXIT_FACTORY}), it stops after the first pass in which no edge could be relaxed, since the distances
+ * cannot change anymore at that point. A graph without a negative cycle reachable from the start node then needs only as
+ * many passes as the shortest paths have edges.
  *
+ * @see SpfaPathCalculator
  * @param <N> the type of the nodes in the graph.
  */
 public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
@@ -21,6 +29,17 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
      */
     public static final PathCalculator.Factory FACTORY = BellmanFordPathCalculator::new;
 
+    /**
+     * Factory for creating new instances of {@link BellmanFordPathCalculator} that stop as soon as a pass does not relax
+     * any edge.
+     */
+    public static final PathCalculator.Factory EARLY_EXIT_FACTORY = new PathCalculator.Factory() {
+        @Override
+        public <N> PathCalculator<N> create(Graph<N> graph) {
+            return new BellmanFordPathCalculator<>(graph, true);
+        }
+    };
+
     /**
      * The graph to calculate paths in.
      */
@@ -36,15 +55,41 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
      */
     protected final Map<N, N> predecessors;
 
+    /**
+     * Whether {@link #processGraph()} stops after the first pass that does not relax any edge.
+     */
+    protected final boolean earlyExit;
+
+    /**
+     * The number of successful relaxations since the last call of {@link #initSSSP(Object)}.
+     */
+    protected int relaxations;
+
+    /**
+     * Whether the last call of {@link #processGraph()} stopped because the distances converged.
+     */
+    protected boolean converged;
+
     /**
      * Creates a new {@link BellmanFordPathCalculator} for the given graph.
      *
      * @param graph the graph to calculate the shortest path in.
      */
     public BellmanFordPathCalculator(Graph<N> graph) {
+        this(graph, false);
+    }
+
+    /**
+     * Creates a new {@link BellmanFordPathCalculator} for the given graph.
+     *
+     * @param graph     the graph to calculate the shortest path in.
+     * @param earlyExit whether to stop after the first pass that does not relax any edge.
+     */
+    public BellmanFordPathCalculator(Graph<N> graph, boolean earlyExit) {
         this.graph = graph;
         this.distances = new HashMap<>();
         this.predecessors = new HashMap<>();
+        this.earlyExit = earlyExit;
     }
 
     @Override
@@ -59,6 +104,18 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
         return reconstructPath(start, end);
     }
 
+    @Override
+    public ShortestPathTree<N> calculateFrom(N start) {
+        initSSSP(start);
+        processGraph();
+
+        if (hasNegativeCycle()) {
+            throw new CycleException("A negative cycle was detected");
+        }
+
+        return new MapShortestPathTree<>(start, distances, predecessors);
+    }
+
 
     /**
      * Initializes the state of this single-source shortest path algorithm to its starting state.
@@ -68,6 +125,8 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
     protected void initSSSP(N start) {
         distances.clear();
         predecessors.clear();
+        relaxations = 0;
+        converged = false;
         for (N node : graph.getNodes()) {
             distances.put(node, Integer.MAX_VALUE);
             predecessors.put(node, null);
@@ -78,11 +137,23 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
 
     /**
      * Processes the given graph with the Bellman-Ford algorithm.
+     * <p>
+     * Each pass visits the outgoing edges of every node with {@link Graph#forEachAdjacent(Object, ObjIntConsumer)}
+     * instead of collecting all edges in a set first.
      */
     protected void processGraph() {
-        for (int i = 1; i < graph.getNodes().size(); i++) {
-            for (Edge<N> edge : graph.getEdges()) {
-                relax(edge);
+        Set<N> nodes = graph.getNodes();
+
+        for (int i = 1; i < nodes.size(); i++) {
+            int relaxationsBefore = relaxations;
+
+            for (N node : nodes) {
+                graph.forEachAdjacent(node, (to, weight) -> relax(Edge.of(node, to, weight)));
+            }
+
+            if (earlyExit && relaxations == relaxationsBefore) {
+                converged = true;
+                return;
             }
         }
     }
@@ -101,19 +172,33 @@ public class BellmanFordPathCalculator<N> implements PathCalculator<N> {
         if (distance != Integer.MAX_VALUE && weight < distances.get(edge.to())) {
             distances.put(edge.to(), weight);
             predecessors.put(edge.to(), edge.from());
+            relaxations++;
         }
     }
 
     /**
      * Determines if the graph contains any edges that cause a negative cycle within the graph.
+     * <p>
+     * If the distances have converged, no edge can be relaxed anymore, so the check is skipped.
      *
      * @return {@code true} if the graph contains a negative cycle, {@code false} otherwise.
      */
     protected boolean hasNegativeCycle() {
-        for (Edge<N> edge : graph.getEdges()) {
-            int src = distances.get(edge.from());
-            int dest = distances.get(edge.to());
-            if (src != Integer.MAX_VALUE && src + edge.weight() < dest) {
+        if (converged) {
+            return false;
+        }
+
+        boolean[] relaxable = new boolean[1];
+
+        for (N node : graph.getNodes()) {
+            int src = distances.get(node);
+            if (src == Integer.MAX_VALUE) {
+                continue;
+            }
+
+            graph.forEachAdjacent(node, (to, weight) -> relaxable[0] |= src + weight < distances.get(to));
+
+            if (relaxable[0]) {
                 return true;
             }
         }
@@ -0,0 +1,138 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses a bidirectional version of Dijkstra's algorithm
+ * to calculate the shortest path between two nodes in a {@link Graph}.
+ * <p>
+ * Two searches run alternately: a forward search from the start node over the outgoing edges and a backward search from
+ * the end node over the ingoing edges, which are taken from the transposed index of the {@link IndexedGraph}. Whenever
+ * an edge connects a node reached by the forward search with a node reached by the backward search, the length of the
+ * resulting path is compared with the best one found so far. The searches stop as soon as the sum of the smallest keys
+ * in both heaps is at least the length of the best path, since no shorter path can be found after that point.
+ * <p>
+ * Each search roughly only needs to explore the nodes within half the distance between start and end node, so on
+ * graphs that grow evenly in all directions, fewer nodes are settled than by {@link DijkstraPathCalculator}. The number
+ * of settled nodes of the last query is available through {@link #getSettledCount()}.
+ * <p>
+ * Like Dijkstra's algorithm, this algorithm requires non-negative weights. If the end node is not reachable from the
+ * start node, an empty list is returned.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class BidirectionalDijkstraPathCalculator<N> extends IndexedPathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link BidirectionalDijkstraPathCalculator}.
+     */
+    public static final PathCalculator.Factory FACTORY = BidirectionalDijkstraPathCalculator::new;
+
+    /**
+     * The number of nodes settled by both searches of the last call of {@link #calculatePath(Object, Object)}.
+     */
+    private int settledCount = 0;
+
+    /**
+     * Creates a new {@link BidirectionalDijkstraPathCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public BidirectionalDijkstraPathCalculator(Graph<N> graph) {
+        super(graph);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start or end node
+     *                                  is not part of the graph.
+     */
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+        int startIndex = indexedGraph.indexOf(start);
+        int endIndex = indexedGraph.indexOf(end);
+        int size = indexedGraph.size();
+
+        int[] forwardDistances = new int[size];
+        int[] backwardDistances = new int[size];
+        int[] predecessors = new int[size];
+        int[] successors = new int[size];
+        Arrays.fill(forwardDistances, Integer.MAX_VALUE);
+        Arrays.fill(backwardDistances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        Arrays.fill(successors, -1);
+
+        IndexedMinHeap forwardQueue = new IndexedMinHeap(size);
+        IndexedMinHeap backwardQueue = new IndexedMinHeap(size);
+        forwardDistances[startIndex] = 0;
+        backwardDistances[endIndex] = 0;
+        forwardQueue.insert(startIndex, 0);
+        backwardQueue.insert(endIndex, 0);
+
+        long bestLength = startIndex == endIndex ? 0 : Long.MAX_VALUE;
+        int meetingNode = startIndex == endIndex ? startIndex : -1;
+        settledCount = 0;
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()
+            && (long) forwardQueue.peekKey() + backwardQueue.peekKey() < bestLength) {
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            IndexedMinHeap queue = forward ? forwardQueue : backwardQueue;
+            int[] distances = forward ? forwardDistances : backwardDistances;
+            int[] otherDistances = forward ? backwardDistances : forwardDistances;
+            int[] parents = forward ? predecessors : successors;
+
+            int node = queue.extractMin();
+            settledCount++;
+
+            int first = forward ? indexedGraph.firstEdge(node) : indexedGraph.firstIncoming(node);
+            int last = forward ? indexedGraph.endEdge(node) : indexedGraph.endIncoming(node);
+
+            for (int slot = first; slot < last; slot++) {
+                int to = forward ? indexedGraph.target(slot) : indexedGraph.source(slot);
+                int distance = distances[node] + (forward ? indexedGraph.weight(slot) : indexedGraph.incomingWeight(slot));
+
+                if (distance < distances[to]) {
+                    distances[to] = distance;
+                    parents[to] = node;
+                    queue.insertOrDecrease(to, distance);
+                }
+
+                if (otherDistances[to] != Integer.MAX_VALUE && (long) distances[to] + otherDistances[to] < bestLength) {
+                    bestLength = (long) distances[to] + otherDistances[to];
+                    meetingNode = to;
+                }
+            }
+        }
+
+        if (meetingNode < 0) {
+            return new LinkedList<>();
+        }
+
+        List<N> path = reconstructPath(indexedGraph, predecessors, startIndex, meetingNode);
+
+        for (int current = successors[meetingNode]; current >= 0; current = successors[current]) {
+            path.add(indexedGraph.nodeAt(current));
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns the number of nodes settled by both searches of the last call of
+     * {@link #calculatePath(Object, Object)}.
+     *
+     * @return the number of settled nodes.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+}
@@ -0,0 +1,177 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An implementation of the {@link MSTCalculator} interface that uses the Boruvka algorithm on a {@link ForkJoinPool} to
+ * calculate the minimum spanning tree of a {@link Graph}.
+ * <p>
+ * The algorithm works in rounds. In each round, the cheapest edge leaving each component is determined in parallel,
+ * and all of these edges are added to the result by merging the components they connect in a
+ * {@link ConcurrentDisjointSet}. The number of components at least halves in every round, so there are at most
+ * {@code log |V|} rounds. Edges are compared by their weight and then by their slot in the {@link IndexedGraph}, packed
+ * into a single {@code long}, so that the cheapest edge of each component can be updated with a compare-and-set.
+ * <p>
+ * Like {@link KruskalMSTCalculator}, the direction of the edges is ignored, the result is a minimum spanning forest
+ * if the graph is not connected, and the selected edges are oriented away from the root.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class BoruvkaMSTCalculator<N> implements MSTCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link BoruvkaMSTCalculator} that use the common pool.
+     */
+    public static final MSTCalculator.Factory FACTORY = BoruvkaMSTCalculator::new;
+
+    /**
+     * The value of a component in {@link #cheapestEdges} that has no outgoing edge.
+     */
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    /**
+     * The graph to calculate the MST for.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * The pool to run the parallel parts of the algorithm in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link BoruvkaMSTCalculator} for the given graph that uses the common pool.
+     *
+     * @param graph the graph to calculate the MST for.
+     */
+    public BoruvkaMSTCalculator(Graph<N> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link BoruvkaMSTCalculator} for the given graph that uses the given pool.
+     *
+     * @param graph the graph to calculate the MST for.
+     * @param pool  the pool to run the parallel parts of the algorithm in.
+     */
+    public BoruvkaMSTCalculator(Graph<N> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link BoruvkaMSTCalculator} that use the given pool.
+     *
+     * @param pool the pool to run the parallel parts of the algorithm in.
+     * @return a factory for creating new instances of {@link BoruvkaMSTCalculator}.
+     */
+    public static MSTCalculator.Factory factory(ForkJoinPool pool) {
+        return new MSTCalculator.Factory() {
+            @Override
+            public <N> MSTCalculator<N> create(Graph<N> graph) {
+                return new BoruvkaMSTCalculator<>(graph, pool);
+            }
+        };
+    }
+
+    @Override
+    public Graph<N> calculateMST(N root) {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        indexedGraph.indexOf(root);
+
+        int size = indexedGraph.size();
+        int[] sources = indexedGraph.edgeSources();
+
+        ConcurrentDisjointSet components = new ConcurrentDisjointSet(size);
+        AtomicLongArray cheapestEdges = new AtomicLongArray(size);
+        boolean[] selected = new boolean[sources.length];
+        boolean merged = true;
+
+        while (merged) {
+            for (int i = 0; i < size; i++) {
+                cheapestEdges.set(i, NO_EDGE);
+            }
+
+            ParallelRange.forEach(pool, size, (start, end) -> findCheapestEdges(indexedGraph, components, cheapestEdges,
+                start, end));
+
+            boolean[] mergedInRound = new boolean[1];
+
+            ParallelRange.forEach(pool, size, (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    long edge = cheapestEdges.get(i);
+
+                    if (edge != NO_EDGE) {
+                        int slot = (int) edge;
+
+                        if (components.union(sources[slot], indexedGraph.target(slot))) {
+                            selected[slot] = true;
+                            mergedInRound[0] = true;
+                        }
+                    }
+                }
+            });
+
+            merged = mergedInRound[0];
+        }
+
+        int[] slots = new int[Math.max(0, size - 1)];
+        int count = 0;
+
+        for (int slot = 0; slot < selected.length; slot++) {
+            if (selected[slot]) {
+                slots[count++] = slot;
+            }
+        }
+
+        return Graph.of(graph.getNodes(),
+            KruskalMSTCalculator.orientedEdges(indexedGraph, indexedGraph.indexOf(root), slots, count));
+    }
+
+    /**
+     * Updates the cheapest edge of the components of both end nodes of every edge that starts at one of the nodes with
+     * an index in {@code [start, end)} and connects two different components.
+     *
+     * @param indexedGraph  the graph to calculate the MST for.
+     * @param components    the current components.
+     * @param cheapestEdges the cheapest edge found so far for each representative.
+     * @param start         the index of the first node to process.
+     * @param end           the index after the last node to process.
+     */
+    private static void findCheapestEdges(IndexedGraph<?> indexedGraph, ConcurrentDisjointSet components,
+                                          AtomicLongArray cheapestEdges, int start, int end) {
+        for (int i = start; i < end; i++) {
+            int fromComponent = components.find(i);
+
+            for (int slot = indexedGraph.firstEdge(i); slot < indexedGraph.endEdge(i); slot++) {
+                int toComponent = components.find(indexedGraph.target(slot));
+
+                if (fromComponent != toComponent) {
+                    long edge = ((long) indexedGraph.weight(slot) << 32) | slot;
+
+                    updateMin(cheapestEdges, fromComponent, edge);
+                    updateMin(cheapestEdges, toComponent, edge);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the value at the given index to the given value if it is smaller than the current value.
+     *
+     * @param array the array to update.
+     * @param index the index of the value to update.
+     * @param value the new value.
+     */
+    private static void updateMin(AtomicLongArray array, int index, long value) {
+        long current = array.get(index);
+
+        while (value < current && !array.compareAndSet(index, current, value)) {
+            current = array.get(index);
+        }
+    }
+}
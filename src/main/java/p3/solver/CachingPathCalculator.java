@@ -0,0 +1,208 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PathCalculator} that caches the {@link ShortestPathTree} of each start node calculated by another
+ * {@link PathCalculator}.
+ * <p>
+ * Every query for a start node that has been seen before is answered from the cached tree without running the
+ * underlying algorithm again. The cache is bounded by the total number of nodes in the cached trees, since the size of
+ * a tree is proportional to the number of nodes in the graph. When the bound is exceeded, the least recently used trees
+ * are evicted.
+ * <p>
+ * The cache is cleared whenever the {@link Graph#getModificationCount() modification count} of the graph changes, so
+ * adding nodes or edges to a {@link p3.graph.MutableGraph} never leads to outdated paths.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class CachingPathCalculator<N> implements PathCalculator<N> {
+
+    /**
+     * The graph to calculate paths in.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * The calculator used to calculate the trees that are not cached. It must support
+     * {@link PathCalculator#calculateFrom(Object)}.
+     */
+    private final PathCalculator<N> delegate;
+
+    /**
+     * The maximum total number of nodes in all cached trees.
+     */
+    private final long maxCachedNodes;
+
+    /**
+     * The cached trees by their start node, in the order of their last access.
+     */
+    private final LinkedHashMap<N, ShortestPathTree<N>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The modification count of {@link #graph} at the time the trees in {@link #cache} were calculated.
+     */
+    private long modificationCount;
+
+    /**
+     * The total number of nodes in all cached trees.
+     */
+    private long cachedNodes = 0;
+
+    /**
+     * The number of queries answered from the cache.
+     */
+    private long hitCount = 0;
+
+    /**
+     * The number of queries that required calculating a tree.
+     */
+    private long missCount = 0;
+
+    /**
+     * The number of trees evicted from the cache to stay within the bound.
+     */
+    private long evictionCount = 0;
+
+    /**
+     * Creates a new {@link CachingPathCalculator} for the given graph.
+     *
+     * @param graph          the graph to calculate paths in.
+     * @param delegate       the calculator used to calculate the trees that are not cached.
+     * @param maxCachedNodes the maximum total number of nodes in all cached trees.
+     * @throws IllegalArgumentException if {@code maxCachedNodes} is negative.
+     */
+    public CachingPathCalculator(Graph<N> graph, PathCalculator<N> delegate, long maxCachedNodes) {
+        if (maxCachedNodes < 0) {
+            throw new IllegalArgumentException("The maximum number of cached nodes must not be negative: "
+                + maxCachedNodes);
+        }
+
+        this.graph = graph;
+        this.delegate = delegate;
+        this.maxCachedNodes = maxCachedNodes;
+        this.modificationCount = graph.getModificationCount();
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link CachingPathCalculator} that cache the trees calculated by
+     * calculators of the given factory.
+     *
+     * @param delegateFactory the factory for the calculators used to calculate the trees that are not cached.
+     * @param maxCachedNodes  the maximum total number of nodes in all cached trees of each calculator.
+     * @return a factory for creating new instances of {@link CachingPathCalculator}.
+     */
+    public static PathCalculator.Factory factory(PathCalculator.Factory delegateFactory, long maxCachedNodes) {
+        return new PathCalculator.Factory() {
+            @Override
+            public <N> PathCalculator<N> create(Graph<N> graph) {
+                return new CachingPathCalculator<>(graph, delegateFactory.create(graph), maxCachedNodes);
+            }
+        };
+    }
+
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        return calculateFrom(start).pathTo(end);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tree is taken from the cache if possible.
+     *
+     * @throws UnsupportedOperationException if the underlying calculator does not support single-source queries.
+     */
+    @Override
+    public synchronized ShortestPathTree<N> calculateFrom(N start) {
+        if (!graph.isUnmodifiedSince(modificationCount)) {
+            invalidate();
+            modificationCount = graph.getModificationCount();
+        }
+
+        ShortestPathTree<N> tree = cache.get(start);
+
+        if (tree != null) {
+            hitCount++;
+            return tree;
+        }
+
+        missCount++;
+        tree = delegate.calculateFrom(start);
+
+        int treeSize = graph.getNodes().size();
+
+        if (treeSize <= maxCachedNodes) {
+            cache.put(start, tree);
+            cachedNodes += treeSize;
+            evict();
+        }
+
+        return tree;
+    }
+
+    /**
+     * Removes all trees from the cache.
+     */
+    public synchronized void invalidate() {
+        cache.clear();
+        cachedNodes = 0;
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of queries that required calculating a tree.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of trees evicted from the cache to stay within the bound.
+     *
+     * @return the number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of trees currently in the cache.
+     *
+     * @return the number of cached trees.
+     */
+    public synchronized int getCachedTreeCount() {
+        return cache.size();
+    }
+
+    /**
+     * Evicts the least recently used trees until the total number of cached nodes is within the bound. All trees in
+     * the cache have the same size, since they were calculated for the same version of the graph.
+     */
+    private void evict() {
+        Iterator<Map.Entry<N, ShortestPathTree<N>>> iterator = cache.entrySet().iterator();
+        int treeSize = graph.getNodes().size();
+
+        while (cachedNodes > maxCachedNodes && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            cachedNodes -= treeSize;
+            evictionCount++;
+        }
+    }
+}
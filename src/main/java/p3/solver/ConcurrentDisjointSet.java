@@ -0,0 +1,85 @@
+package p3.solver;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free disjoint-set (union-find) data structure over the elements {@code [0, size - 1]} that can be used by
+ * multiple threads at the same time.
+ * <p>
+ * The parents are stored in an {@link AtomicIntegerArray}. {@link #find(int)} shortens the paths it traverses by
+ * path halving, and {@link #union(int, int)} links one representative to the other with a compare-and-set, retrying if
+ * another thread changed the representative in between. The representative with the smaller index is always attached
+ * to the one with the larger index, which rules out cycles between concurrent unions.
+ *
+ * @see DisjointSet
+ */
+final class ConcurrentDisjointSet {
+
+    /**
+     * The parent of each element. The parent of a representative is the element itself.
+     */
+    private final AtomicIntegerArray parents;
+
+    /**
+     * Creates a new {@link ConcurrentDisjointSet} in which every element is in its own set.
+     *
+     * @param size the number of elements.
+     */
+    ConcurrentDisjointSet(int size) {
+        this.parents = new AtomicIntegerArray(size);
+
+        for (int i = 0; i < size; i++) {
+            parents.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the representative of the set containing the given element.
+     * <p>
+     * If other threads perform unions at the same time, the result may no longer be a representative when this method
+     * returns.
+     *
+     * @param element the element to find the representative of.
+     * @return the representative of the set containing the element.
+     */
+    int find(int element) {
+        int parent = parents.get(element);
+
+        while (parent != element) {
+            int grandparent = parents.get(parent);
+
+            // Let the element skip its parent; failing is harmless, since another thread made progress
+            parents.compareAndSet(element, parent, grandparent);
+            element = grandparent;
+            parent = parents.get(element);
+        }
+
+        return element;
+    }
+
+    /**
+     * Merges the sets containing the given elements.
+     *
+     * @param a the first element.
+     * @param b the second element.
+     * @return {@code true} if this call merged two different sets, {@code false} if the elements were already in the
+     * same set.
+     */
+    boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+
+            if (rootA == rootB) {
+                return false;
+            }
+
+            int lower = Math.min(rootA, rootB);
+            int upper = Math.max(rootA, rootB);
+
+            if (parents.compareAndSet(lower, lower, upper)) {
+                return true;
+            }
+        }
+    }
+}
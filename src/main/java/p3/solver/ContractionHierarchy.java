@@ -0,0 +1,1069 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A contraction hierarchy of a {@link Graph}, i.e., a preprocessed version of the graph that allows answering shortest
+ * path queries by exploring only a small part of it.
+ * <p>
+ * During preprocessing, the nodes are contracted one after another. Contracting a node removes it from the remaining
+ * graph and inserts a shortcut edge between each pair of its remaining neighbors whose shortest path leads through it.
+ * A shortcut remembers the contracted node in the middle of it, so that it can be unpacked into the original edges
+ * later. The order of contraction is the rank of a node. The nodes are ordered greedily by their edge difference, i.e.,
+ * the number of shortcuts that contracting a node would insert minus the number of edges it would remove, plus the
+ * number of its already contracted neighbors to spread the contraction evenly over the graph. Whether a shortcut is
+ * needed is decided by a local witness search that looks for a path of at most the same length that avoids the node.
+ * <p>
+ * The result consists of two graphs in compressed sparse row format that only contain edges leading to nodes of higher
+ * rank: the upward graph with the outgoing edges of each node, and the downward graph with the ingoing edges of each
+ * node, reversed. Every shortest path in the original graph corresponds to a path of the same length that first goes up
+ * in the upward graph and then down along reversed edges of the downward graph, which is what
+ * {@link ContractionHierarchyPathCalculator} searches for.
+ * <p>
+ * A hierarchy can be written to and read from a binary stream with {@link #writeTo(DataOutput, NodeWriter)} and
+ * {@link #readFrom(DataInput, NodeReader)}, so that the preprocessing does not have to be repeated.
+ *
+ * @param <N> the type of the nodes in the graph.
+ * @see ContractionHierarchyPathCalculator
+ */
+public final class ContractionHierarchy<N> {
+
+    /**
+     * The value written at the start of a serialized hierarchy.
+     */
+    private static final int MAGIC = 0x50334348;
+
+    /**
+     * The version of the serialization format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The maximum number of nodes settled by a single witness search. Stopping a witness search early can only lead to
+     * unnecessary shortcuts, never to wrong results.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    /**
+     * The node with each index.
+     */
+    private final Object[] nodes;
+
+    /**
+     * A map from each node to its index. This map is the inverse of {@link #nodes}.
+     */
+    private final Map<N, Integer> indices;
+
+    /**
+     * The rank of each node, i.e., its position in the contraction order.
+     */
+    private final int[] ranks;
+
+    /**
+     * The first slot of the upward edges of each node.
+     */
+    private final int[] upOffsets;
+
+    /**
+     * The index of the node each upward edge ends at.
+     */
+    private final int[] upTargets;
+
+    /**
+     * The weight of each upward edge.
+     */
+    private final int[] upWeights;
+
+    /**
+     * The index of the node in the middle of each upward shortcut, or {@code -1} for an original edge.
+     */
+    private final int[] upMiddles;
+
+    /**
+     * The first slot of the downward edges of each node.
+     */
+    private final int[] downOffsets;
+
+    /**
+     * The index of the node each downward edge starts at, i.e., the edge in the original direction ends at the node
+     * whose slots contain it.
+     */
+    private final int[] downSources;
+
+    /**
+     * The weight of each downward edge.
+     */
+    private final int[] downWeights;
+
+    /**
+     * The index of the node in the middle of each downward shortcut, or {@code -1} for an original edge.
+     */
+    private final int[] downMiddles;
+
+    /**
+     * Creates a new {@link ContractionHierarchy} from the given arrays.
+     *
+     * @param nodes       the node with each index.
+     * @param ranks       the rank of each node.
+     * @param upOffsets   the first slot of the upward edges of each node.
+     * @param upTargets   the index of the node each upward edge ends at.
+     * @param upWeights   the weight of each upward edge.
+     * @param upMiddles   the middle node of each upward edge.
+     * @param downOffsets the first slot of the downward edges of each node.
+     * @param downSources the index of the node each downward edge starts at.
+     * @param downWeights the weight of each downward edge.
+     * @param downMiddles the middle node of each downward edge.
+     */
+    private ContractionHierarchy(Object[] nodes, int[] ranks, int[] upOffsets, int[] upTargets, int[] upWeights,
+                                 int[] upMiddles, int[] downOffsets, int[] downSources, int[] downWeights,
+                                 int[] downMiddles) {
+        this.nodes = nodes;
+        this.indices = new HashMap<>();
+        this.ranks = ranks;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+
+        for (int i = 0; i < nodes.length; i++) {
+            indices.put(nodeAt(i), i);
+        }
+    }
+
+    /**
+     * Builds the contraction hierarchy of the given graph.
+     *
+     * @param graph the graph to build the hierarchy of.
+     * @param <N>   the type of the nodes in the graph.
+     * @return the contraction hierarchy of the graph.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight.
+     */
+    public static <N> ContractionHierarchy<N> build(Graph<N> graph) {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+        Object[] nodes = new Object[indexedGraph.size()];
+
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = indexedGraph.nodeAt(i);
+        }
+
+        return new Builder(indexedGraph).build(nodes);
+    }
+
+    /**
+     * Reads a hierarchy that has been written with {@link #writeTo(DataOutput, NodeWriter)}.
+     *
+     * @param in     the stream to read from.
+     * @param reader the function that reads a single node.
+     * @param <N>    the type of the nodes in the graph.
+     * @return the hierarchy read from the stream.
+     * @throws IOException if reading from the stream fails or the stream does not contain a valid hierarchy.
+     */
+    public static <N> ContractionHierarchy<N> readFrom(DataInput in, NodeReader<? extends N> reader) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("The stream does not contain a contraction hierarchy");
+        }
+
+        Object[] nodes = new Object[readLength(in)];
+
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = reader.read(in);
+        }
+
+        int[] ranks = readArray(in);
+        int[] upOffsets = readArray(in);
+        int[] upTargets = readArray(in);
+        int[] upWeights = readArray(in);
+        int[] upMiddles = readArray(in);
+        int[] downOffsets = readArray(in);
+        int[] downSources = readArray(in);
+        int[] downWeights = readArray(in);
+        int[] downMiddles = readArray(in);
+
+        if (ranks.length != nodes.length) {
+            throw new IOException("Corrupt contraction hierarchy: %d ranks for %d nodes".formatted(ranks.length,
+                nodes.length));
+        }
+        for (int rank : ranks) {
+            checkRange(rank, 0, nodes.length, "rank");
+        }
+
+        checkEdges(nodes.length, upOffsets, upTargets, upWeights, upMiddles);
+        checkEdges(nodes.length, downOffsets, downSources, downWeights, downMiddles);
+
+        return new ContractionHierarchy<>(nodes, ranks, upOffsets, upTargets, upWeights, upMiddles, downOffsets,
+            downSources, downWeights, downMiddles);
+    }
+
+    /**
+     * Writes this hierarchy to the given stream.
+     *
+     * @param out    the stream to write to.
+     * @param writer the function that writes a single node.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeTo(DataOutput out, NodeWriter<? super N> writer) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(nodes.length);
+
+        for (int i = 0; i < nodes.length; i++) {
+            writer.write(out, nodeAt(i));
+        }
+
+        for (int[] array : new int[][] {ranks, upOffsets, upTargets, upWeights, upMiddles, downOffsets, downSources,
+            downWeights, downMiddles}) {
+            writeArray(out, array);
+        }
+    }
+
+    /**
+     * Returns the number of nodes in the hierarchy.
+     *
+     * @return the number of nodes.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of shortcuts in the hierarchy.
+     *
+     * @return the number of shortcuts.
+     */
+    public int shortcutCount() {
+        int count = 0;
+
+        for (int middle : upMiddles) {
+            count += middle >= 0 ? 1 : 0;
+        }
+        for (int middle : downMiddles) {
+            count += middle >= 0 ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the rank of the given node, i.e., its position in the contraction order.
+     *
+     * @param node the node to get the rank of.
+     * @return the rank of the node.
+     * @throws IllegalArgumentException if the given node is not part of the hierarchy.
+     */
+    public int rankOf(N node) {
+        return ranks[indexOf(node)];
+    }
+
+    /**
+     * Returns the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the node with the given index.
+     */
+    @SuppressWarnings("unchecked")
+    N nodeAt(int index) {
+        return (N) nodes[index];
+    }
+
+    /**
+     * Returns the index of the given node.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the node.
+     * @throws IllegalArgumentException if the given node is not part of the hierarchy.
+     */
+    int indexOf(N node) {
+        Integer index = indices.get(node);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Node %s is not part of this graph".formatted(node));
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the first slot of the upward edges of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the first slot of the upward edges.
+     */
+    int firstUp(int index) {
+        return upOffsets[index];
+    }
+
+    /**
+     * Returns the slot after the last upward edge of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the slot after the last upward edge.
+     */
+    int endUp(int index) {
+        return upOffsets[index + 1];
+    }
+
+    /**
+     * Returns the index of the node the upward edge in the given slot ends at.
+     *
+     * @param slot the slot of the edge.
+     * @return the index of the node the edge ends at.
+     */
+    int upTarget(int slot) {
+        return upTargets[slot];
+    }
+
+    /**
+     * Returns the weight of the upward edge in the given slot.
+     *
+     * @param slot the slot of the edge.
+     * @return the weight of the edge.
+     */
+    int upWeight(int slot) {
+        return upWeights[slot];
+    }
+
+    /**
+     * Returns the middle node of the upward edge in the given slot.
+     *
+     * @param slot the slot of the edge.
+     * @return the index of the middle node, or {@code -1} for an original edge.
+     */
+    int upMiddle(int slot) {
+        return upMiddles[slot];
+    }
+
+    /**
+     * Returns the first slot of the downward edges of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the first slot of the downward edges.
+     */
+    int firstDown(int index) {
+        return downOffsets[index];
+    }
+
+    /**
+     * Returns the slot after the last downward edge of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the slot after the last downward edge.
+     */
+    int endDown(int index) {
+        return downOffsets[index + 1];
+    }
+
+    /**
+     * Returns the index of the node the downward edge in the given slot starts at.
+     *
+     * @param slot the slot of the edge.
+     * @return the index of the node the edge starts at.
+     */
+    int downSource(int slot) {
+        return downSources[slot];
+    }
+
+    /**
+     * Returns the weight of the downward edge in the given slot.
+     *
+     * @param slot the slot of the edge.
+     * @return the weight of the edge.
+     */
+    int downWeight(int slot) {
+        return downWeights[slot];
+    }
+
+    /**
+     * Returns the middle node of the downward edge in the given slot.
+     *
+     * @param slot the slot of the edge.
+     * @return the index of the middle node, or {@code -1} for an original edge.
+     */
+    int downMiddle(int slot) {
+        return downMiddles[slot];
+    }
+
+    /**
+     * Appends the nodes of the original path represented by the edge from the node with index {@code from} to the node
+     * with index {@code to} with the given middle node to the given path, excluding {@code from}.
+     *
+     * @param from   the index of the node the edge starts at.
+     * @param to     the index of the node the edge ends at.
+     * @param middle the index of the middle node of the edge, or {@code -1} for an original edge.
+     * @param path   the list to append the indices of the nodes to.
+     */
+    void unpack(int from, int to, int middle, IntStack path) {
+        // Each entry consists of the start, end and middle node of an edge that still has to be unpacked
+        IntStack pending = new IntStack();
+        pending.push(from, to, middle);
+
+        while (!pending.isEmpty()) {
+            int edgeMiddle = pending.pop();
+            int edgeTo = pending.pop();
+            int edgeFrom = pending.pop();
+
+            if (edgeMiddle < 0) {
+                path.push(edgeTo);
+                continue;
+            }
+
+            // The middle node has the lowest rank, so the first half is a downward and the second half an upward edge of it
+            pending.push(edgeMiddle, edgeTo, findUpMiddle(edgeMiddle, edgeTo));
+            pending.push(edgeFrom, edgeMiddle, findDownMiddle(edgeMiddle, edgeFrom));
+        }
+    }
+
+    /**
+     * Finds the middle node of the upward edge from {@code from} to {@code to}.
+     *
+     * @param from the index of the node the edge starts at.
+     * @param to   the index of the node the edge ends at.
+     * @return the index of the middle node, or {@code -1} for an original edge.
+     */
+    private int findUpMiddle(int from, int to) {
+        for (int slot = upOffsets[from]; slot < upOffsets[from + 1]; slot++) {
+            if (upTargets[slot] == to) {
+                return upMiddles[slot];
+            }
+        }
+
+        throw new IllegalStateException("Missing upward edge from %d to %d".formatted(from, to));
+    }
+
+    /**
+     * Finds the middle node of the downward edge of {@code to} that starts at {@code from}.
+     *
+     * @param to   the index of the node the edge ends at.
+     * @param from the index of the node the edge starts at.
+     * @return the index of the middle node, or {@code -1} for an original edge.
+     */
+    private int findDownMiddle(int to, int from) {
+        for (int slot = downOffsets[to]; slot < downOffsets[to + 1]; slot++) {
+            if (downSources[slot] == from) {
+                return downMiddles[slot];
+            }
+        }
+
+        throw new IllegalStateException("Missing downward edge from %d to %d".formatted(from, to));
+    }
+
+    /**
+     * Reads an {@code int} array preceded by its length from the given stream.
+     *
+     * @param in the stream to read from.
+     * @return the array.
+     * @throws IOException if reading from the stream fails.
+     */
+    private static int[] readArray(DataInput in) throws IOException {
+        int[] array = new int[readLength(in)];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = in.readInt();
+        }
+
+        return array;
+    }
+
+    /**
+     * Reads a non-negative length from the given stream.
+     *
+     * @param in the stream to read from.
+     * @return the length.
+     * @throws IOException if reading from the stream fails or the length is negative.
+     */
+    private static int readLength(DataInput in) throws IOException {
+        int length = in.readInt();
+
+        checkRange(length, 0, Integer.MAX_VALUE, "length");
+
+        return length;
+    }
+
+    /**
+     * Checks that the given deserialized edges in compressed sparse row format are consistent with each other and with
+     * the number of nodes.
+     *
+     * @param size      the number of nodes.
+     * @param offsets   the first slot of the edges of each node.
+     * @param neighbors the index of the neighbor of each edge.
+     * @param weights   the weight of each edge.
+     * @param middles   the middle node of each edge.
+     * @throws IOException if the arrays are not consistent.
+     */
+    private static void checkEdges(int size, int[] offsets, int[] neighbors, int[] weights, int[] middles)
+        throws IOException {
+        if (offsets.length != size + 1 || offsets[0] != 0 || offsets[size] != neighbors.length
+            || weights.length != neighbors.length || middles.length != neighbors.length) {
+            throw new IOException("Corrupt contraction hierarchy: the edge arrays do not match %d nodes"
+                .formatted(size));
+        }
+
+        for (int i = 0; i < size; i++) {
+            checkRange(offsets[i + 1], offsets[i], neighbors.length + 1, "edge offset");
+        }
+        for (int i = 0; i < neighbors.length; i++) {
+            checkRange(neighbors[i], 0, size, "node index");
+            checkRange(middles[i], -1, size, "middle node index");
+
+            if (weights[i] < 0) {
+                throw new IOException("Corrupt contraction hierarchy: invalid weight %d".formatted(weights[i]));
+            }
+        }
+    }
+
+    /**
+     * Checks that a deserialized value is in the range {@code [min, end)}.
+     *
+     * @param value the value to check.
+     * @param min   the smallest allowed value.
+     * @param end   the value after the largest allowed value.
+     * @param name  the name of the value for the error message.
+     * @throws IOException if the value is not in the range.
+     */
+    private static void checkRange(int value, int min, int end, String name) throws IOException {
+        if (value < min || value >= end) {
+            throw new IOException("Corrupt contraction hierarchy: invalid %s %d".formatted(name, value));
+        }
+    }
+
+    /**
+     * Writes the given {@code int} array preceded by its length to the given stream.
+     *
+     * @param out   the stream to write to.
+     * @param array the array to write.
+     * @throws IOException if writing to the stream fails.
+     */
+    private static void writeArray(DataOutput out, int[] array) throws IOException {
+        out.writeInt(array.length);
+
+        for (int value : array) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * A growable stack of {@code int} values.
+     */
+    static final class IntStack {
+
+        /**
+         * The values on the stack, followed by unused space.
+         */
+        private int[] values = new int[16];
+
+        /**
+         * The number of values on the stack.
+         */
+        private int size = 0;
+
+        /**
+         * Pushes the given values onto the stack, in the given order.
+         *
+         * @param newValues the values to push.
+         */
+        void push(int... newValues) {
+            if (size + newValues.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + newValues.length));
+            }
+
+            for (int value : newValues) {
+                values[size++] = value;
+            }
+        }
+
+        /**
+         * Removes the top value from the stack and returns it.
+         *
+         * @return the top value.
+         */
+        int pop() {
+            return values[--size];
+        }
+
+        /**
+         * Returns whether the stack is empty.
+         *
+         * @return {@code true} if the stack is empty, {@code false} otherwise.
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Returns the number of values on the stack.
+         *
+         * @return the number of values.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the value at the given position, counted from the bottom of the stack.
+         *
+         * @param position the position of the value.
+         * @return the value at the given position.
+         */
+        int get(int position) {
+            return values[position];
+        }
+
+        /**
+         * Removes all values from the stack.
+         */
+        void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * The state of the preprocessing.
+     * <p>
+     * The remaining graph is stored as one {@link EdgeRow} of outgoing and one of ingoing edges per node, each
+     * containing the indices of the neighbors and the weight and the middle node of each edge packed into a
+     * {@code long}. Contracted nodes are removed from the rows of their neighbors.
+     */
+    private static final class Builder {
+
+        /**
+         * The outgoing edges of each node in the remaining graph.
+         */
+        private final EdgeRow[] outgoing;
+
+        /**
+         * The ingoing edges of each node in the remaining graph.
+         */
+        private final EdgeRow[] ingoing;
+
+        /**
+         * The number of contracted neighbors of each node.
+         */
+        private final int[] contractedNeighbors;
+
+        /**
+         * The tentative distances of the witness search, or {@link Integer#MAX_VALUE} if a node has not been reached.
+         */
+        private final int[] witnessDistances;
+
+        /**
+         * The nodes whose entry in {@link #witnessDistances} has been set by the current witness search.
+         */
+        private final IntStack witnessTouched = new IntStack();
+
+        /**
+         * The queue of the witness search.
+         */
+        private final IndexedMinHeap witnessQueue;
+
+        /**
+         * Creates a new {@link Builder} with the edges of the given graph as the remaining graph.
+         *
+         * @param indexedGraph the graph to build the hierarchy of.
+         */
+        private Builder(IndexedGraph<?> indexedGraph) {
+            int size = indexedGraph.size();
+
+            this.outgoing = new EdgeRow[size];
+            this.ingoing = new EdgeRow[size];
+            this.contractedNeighbors = new int[size];
+            this.witnessDistances = new int[size];
+            this.witnessQueue = new IndexedMinHeap(size);
+
+            Arrays.fill(witnessDistances, Integer.MAX_VALUE);
+
+            for (int i = 0; i < size; i++) {
+                outgoing[i] = new EdgeRow();
+                ingoing[i] = new EdgeRow();
+            }
+
+            for (int i = 0; i < size; i++) {
+                for (int slot = indexedGraph.firstEdge(i); slot < indexedGraph.endEdge(i); slot++) {
+                    if (indexedGraph.target(slot) != i) {
+                        addEdge(i, indexedGraph.target(slot), indexedGraph.weight(slot), -1);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Contracts all nodes and creates the hierarchy.
+         *
+         * @param nodes the node with each index.
+         * @param <N>   the type of the nodes.
+         * @return the contraction hierarchy.
+         */
+        private <N> ContractionHierarchy<N> build(Object[] nodes) {
+            int size = nodes.length;
+            int[] ranks = new int[size];
+            IndexedMinHeap queue = new IndexedMinHeap(size);
+
+            // The edges of each node at the time of its contraction, which all lead to nodes of higher rank
+            long[][] upEdges = new long[size][];
+            int[][] upNeighbors = new int[size][];
+            long[][] downEdges = new long[size][];
+            int[][] downNeighbors = new int[size][];
+
+            for (int i = 0; i < size; i++) {
+                queue.insert(i, priority(i));
+            }
+
+            int rank = 0;
+
+            while (!queue.isEmpty()) {
+                int node = queue.extractMin();
+                int priority = priority(node);
+
+                // Lazy update: the priority may have increased since it was inserted
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.insert(node, priority);
+                    continue;
+                }
+
+                ranks[node] = rank++;
+                upNeighbors[node] = outgoing[node].neighbors();
+                upEdges[node] = outgoing[node].edges();
+                downNeighbors[node] = ingoing[node].neighbors();
+                downEdges[node] = ingoing[node].edges();
+
+                contract(node, false);
+            }
+
+            int[] upOffsets = new int[size + 1];
+            int[] downOffsets = new int[size + 1];
+
+            for (int i = 0; i < size; i++) {
+                upOffsets[i + 1] = upOffsets[i] + upNeighbors[i].length;
+                downOffsets[i + 1] = downOffsets[i] + downNeighbors[i].length;
+            }
+
+            int[] upTargets = new int[upOffsets[size]];
+            int[] upWeights = new int[upOffsets[size]];
+            int[] upMiddles = new int[upOffsets[size]];
+            int[] downSources = new int[downOffsets[size]];
+            int[] downWeights = new int[downOffsets[size]];
+            int[] downMiddles = new int[downOffsets[size]];
+
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < upNeighbors[i].length; j++) {
+                    upTargets[upOffsets[i] + j] = upNeighbors[i][j];
+                    upWeights[upOffsets[i] + j] = weightOf(upEdges[i][j]);
+                    upMiddles[upOffsets[i] + j] = middleOf(upEdges[i][j]);
+                }
+                for (int j = 0; j < downNeighbors[i].length; j++) {
+                    downSources[downOffsets[i] + j] = downNeighbors[i][j];
+                    downWeights[downOffsets[i] + j] = weightOf(downEdges[i][j]);
+                    downMiddles[downOffsets[i] + j] = middleOf(downEdges[i][j]);
+                }
+            }
+
+            return new ContractionHierarchy<>(nodes, ranks, upOffsets, upTargets, upWeights, upMiddles, downOffsets,
+                downSources, downWeights, downMiddles);
+        }
+
+        /**
+         * Calculates the priority of the given node, i.e., its edge difference plus the number of its contracted
+         * neighbors.
+         *
+         * @param node the index of the node.
+         * @return the priority of the node.
+         */
+        private int priority(int node) {
+            int shortcuts = contract(node, true);
+
+            return shortcuts - outgoing[node].size() - ingoing[node].size() + contractedNeighbors[node];
+        }
+
+        /**
+         * Contracts the given node or only counts the shortcuts that contracting it would insert.
+         *
+         * @param node     the index of the node.
+         * @param simulate whether to only count the shortcuts instead of contracting the node.
+         * @return the number of shortcuts inserted or that would be inserted.
+         */
+        private int contract(int node, boolean simulate) {
+            int shortcuts = 0;
+            int maxOutgoingWeight = 0;
+
+            for (int i = 0; i < outgoing[node].size(); i++) {
+                maxOutgoingWeight = Math.max(maxOutgoingWeight, weightOf(outgoing[node].edge(i)));
+            }
+
+            // Copy the edges, since inserting shortcuts modifies the rows of the neighbors
+            int[] fromNodes = ingoing[node].neighbors();
+            long[] fromEdges = ingoing[node].edges();
+            int[] toNodes = outgoing[node].neighbors();
+            long[] toEdges = outgoing[node].edges();
+
+            for (int i = 0; i < fromNodes.length; i++) {
+                int from = fromNodes[i];
+                int fromWeight = weightOf(fromEdges[i]);
+
+                witnessSearch(from, node, (long) fromWeight + maxOutgoingWeight);
+
+                for (int j = 0; j < toNodes.length; j++) {
+                    int to = toNodes[j];
+
+                    if (to == from) {
+                        continue;
+                    }
+
+                    long length = (long) fromWeight + weightOf(toEdges[j]);
+
+                    if (witnessDistances[to] > length) {
+                        shortcuts++;
+
+                        if (!simulate) {
+                            addEdge(from, to, (int) Math.min(Integer.MAX_VALUE, length), node);
+                        }
+                    }
+                }
+
+                resetWitnessSearch();
+            }
+
+            if (!simulate) {
+                for (int from : fromNodes) {
+                    outgoing[from].remove(node);
+                    contractedNeighbors[from]++;
+                }
+                for (int to : toNodes) {
+                    ingoing[to].remove(node);
+                    contractedNeighbors[to]++;
+                }
+            }
+
+            return shortcuts;
+        }
+
+        /**
+         * Runs a bounded Dijkstra search from the given node in the remaining graph that ignores the given node.
+         *
+         * @param start       the index of the start node.
+         * @param ignored     the index of the node to ignore.
+         * @param maxDistance the distance at which the search stops.
+         */
+        private void witnessSearch(int start, int ignored, long maxDistance) {
+            witnessDistances[start] = 0;
+            witnessTouched.push(start);
+            witnessQueue.insert(start, 0);
+
+            int settled = 0;
+
+            while (!witnessQueue.isEmpty() && witnessQueue.peekKey() <= maxDistance
+                && settled < WITNESS_SETTLE_LIMIT) {
+                int node = witnessQueue.extractMin();
+                settled++;
+
+                EdgeRow edges = outgoing[node];
+
+                for (int i = 0; i < edges.size(); i++) {
+                    int to = edges.neighbor(i);
+
+                    if (to == ignored) {
+                        continue;
+                    }
+
+                    long distance = (long) witnessDistances[node] + weightOf(edges.edge(i));
+
+                    if (distance < witnessDistances[to]) {
+                        if (witnessDistances[to] == Integer.MAX_VALUE) {
+                            witnessTouched.push(to);
+                        }
+
+                        witnessDistances[to] = (int) distance;
+                        witnessQueue.insertOrDecrease(to, (int) distance);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Resets the state of the last witness search.
+         */
+        private void resetWitnessSearch() {
+            for (int i = 0; i < witnessTouched.size(); i++) {
+                witnessDistances[witnessTouched.get(i)] = Integer.MAX_VALUE;
+            }
+
+            witnessTouched.clear();
+            witnessQueue.clear();
+        }
+
+        /**
+         * Adds an edge to the remaining graph, or lowers the weight of the existing edge between the given nodes.
+         *
+         * @param from   the index of the node the edge starts at.
+         * @param to     the index of the node the edge ends at.
+         * @param weight the weight of the edge.
+         * @param middle the index of the middle node of the edge, or {@code -1} for an original edge.
+         */
+        private void addEdge(int from, int to, int weight, int middle) {
+            int position = outgoing[from].indexOf(to);
+
+            if (position < 0 || weight < weightOf(outgoing[from].edge(position))) {
+                long edge = ((long) weight << 32) | (middle & 0xFFFFFFFFL);
+
+                outgoing[from].put(to, edge);
+                ingoing[to].put(from, edge);
+            }
+        }
+
+        /**
+         * Returns the weight of the given packed edge.
+         *
+         * @param edge the packed edge.
+         * @return the weight of the edge.
+         */
+        private static int weightOf(long edge) {
+            return (int) (edge >> 32);
+        }
+
+        /**
+         * Returns the middle node of the given packed edge.
+         *
+         * @param edge the packed edge.
+         * @return the index of the middle node, or {@code -1} for an original edge.
+         */
+        private static int middleOf(long edge) {
+            return (int) edge;
+        }
+    }
+
+    /**
+     * The edges of a node to its neighbors in the remaining graph during the preprocessing, stored as the indices of
+     * the neighbors and the packed edges in two growable arrays.
+     * <p>
+     * A node has at most one edge to each neighbor. Lookups scan the row, which is fast for the small degrees of the
+     * remaining graph. Removing an edge moves the last edge into its place, so the order of the edges is not stable.
+     */
+    private static final class EdgeRow {
+
+        /**
+         * The index of the neighbor of each edge, followed by unused space.
+         */
+        private int[] neighbors = new int[4];
+
+        /**
+         * The packed weight and middle node of each edge, followed by unused space.
+         */
+        private long[] edges = new long[4];
+
+        /**
+         * The number of edges in the row.
+         */
+        private int size = 0;
+
+        /**
+         * Returns the number of edges in the row.
+         *
+         * @return the number of edges.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the index of the neighbor of the edge at the given position.
+         *
+         * @param position the position of the edge.
+         * @return the index of the neighbor.
+         */
+        int neighbor(int position) {
+            return neighbors[position];
+        }
+
+        /**
+         * Returns the packed edge at the given position.
+         *
+         * @param position the position of the edge.
+         * @return the packed weight and middle node of the edge.
+         */
+        long edge(int position) {
+            return edges[position];
+        }
+
+        /**
+         * Returns the position of the edge to the given neighbor.
+         *
+         * @param neighbor the index of the neighbor.
+         * @return the position of the edge, or {@code -1} if there is no edge to the neighbor.
+         */
+        int indexOf(int neighbor) {
+            for (int i = 0; i < size; i++) {
+                if (neighbors[i] == neighbor) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Sets the edge to the given neighbor, replacing an existing one.
+         *
+         * @param neighbor the index of the neighbor.
+         * @param edge     the packed weight and middle node of the edge.
+         */
+        void put(int neighbor, long edge) {
+            int position = indexOf(neighbor);
+
+            if (position < 0) {
+                if (size == neighbors.length) {
+                    neighbors = Arrays.copyOf(neighbors, size * 2);
+                    edges = Arrays.copyOf(edges, size * 2);
+                }
+
+                position = size++;
+                neighbors[position] = neighbor;
+            }
+
+            edges[position] = edge;
+        }
+
+        /**
+         * Removes the edge to the given neighbor, if there is one.
+         *
+         * @param neighbor the index of the neighbor.
+         */
+        void remove(int neighbor) {
+            int position = indexOf(neighbor);
+
+            if (position >= 0) {
+                size--;
+                neighbors[position] = neighbors[size];
+                edges[position] = edges[size];
+            }
+        }
+
+        /**
+         * Returns a copy of the indices of the neighbors.
+         *
+         * @return the index of the neighbor of each edge.
+         */
+        int[] neighbors() {
+            return Arrays.copyOf(neighbors, size);
+        }
+
+        /**
+         * Returns a copy of the packed edges, in the same order as {@link #neighbors()}.
+         *
+         * @return the packed weight and middle node of each edge.
+         */
+        long[] edges() {
+            return Arrays.copyOf(edges, size);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that answers shortest path queries with a
+ * {@link ContractionHierarchy} of the graph.
+ * <p>
+ * A query runs two Dijkstra searches that only follow edges to nodes of higher rank: a forward search from the start
+ * node in the upward graph and a backward search from the end node in the downward graph. The shortest path leads
+ * through the node that minimizes the sum of both distances. A search stops once its smallest key is at least the
+ * length of the best path found so far. Nodes that can be reached on a shorter path from a node of higher rank are not
+ * expanded (stall-on-demand), since they cannot be part of a shortest path. The shortcuts of the found path are
+ * unpacked into the original edges before the path is returned.
+ * <p>
+ * The hierarchy is built on the first query and reused until the {@link Graph#getModificationCount() modification
+ * count} of the graph changes. Alternatively, a previously built or deserialized hierarchy can be passed to the
+ * constructor. The buffers of the searches are reused between queries, so a query only touches the nodes it explores.
+ * <p>
+ * Like Dijkstra's algorithm, contraction hierarchies require non-negative weights. If the end node is not reachable
+ * from the start node, an empty list is returned.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class ContractionHierarchyPathCalculator<N> implements PathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link ContractionHierarchyPathCalculator}.
+     */
+    public static final PathCalculator.Factory FACTORY = ContractionHierarchyPathCalculator::new;
+
+    /**
+     * The graph to calculate paths in.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * The hierarchy of the current version of the graph, or {@code null} if it has not been built yet.
+     */
+    private ContractionHierarchy<N> hierarchy;
+
+    /**
+     * The modification count of {@link #graph} at the time {@link #hierarchy} was built.
+     */
+    private long hierarchyModificationCount;
+
+    /**
+     * The distance of each node from the start node in the forward search.
+     */
+    private int[] forwardDistances = new int[0];
+
+    /**
+     * The distance of each node to the end node in the backward search.
+     */
+    private int[] backwardDistances = new int[0];
+
+    /**
+     * The node each node was reached from in the forward search.
+     */
+    private int[] forwardParents = new int[0];
+
+    /**
+     * The slot of the upward edge each node was reached with in the forward search.
+     */
+    private int[] forwardSlots = new int[0];
+
+    /**
+     * The node each node was reached from in the backward search.
+     */
+    private int[] backwardParents = new int[0];
+
+    /**
+     * The slot of the downward edge each node was reached with in the backward search.
+     */
+    private int[] backwardSlots = new int[0];
+
+    /**
+     * The queue of the forward search.
+     */
+    private IndexedMinHeap forwardQueue;
+
+    /**
+     * The queue of the backward search.
+     */
+    private IndexedMinHeap backwardQueue;
+
+    /**
+     * The nodes whose distances have been set by the current query.
+     */
+    private final ContractionHierarchy.IntStack touched = new ContractionHierarchy.IntStack();
+
+    /**
+     * The number of nodes settled by the last query.
+     */
+    private int settledCount = 0;
+
+    /**
+     * Creates a new {@link ContractionHierarchyPathCalculator} for the given graph that builds the hierarchy on the
+     * first query.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public ContractionHierarchyPathCalculator(Graph<N> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Creates a new {@link ContractionHierarchyPathCalculator} for the given graph that uses the given hierarchy until
+     * the graph is modified.
+     *
+     * @param graph     the graph to calculate the shortest path in.
+     * @param hierarchy the hierarchy of the current version of the graph.
+     */
+    public ContractionHierarchyPathCalculator(Graph<N> graph, ContractionHierarchy<N> hierarchy) {
+        this.graph = graph;
+        setHierarchy(hierarchy);
+    }
+
+    /**
+     * Returns the hierarchy of the current version of the graph, building it if necessary.
+     *
+     * @return the hierarchy of the graph.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight.
+     */
+    public synchronized ContractionHierarchy<N> getHierarchy() {
+        if (hierarchy == null || !graph.isUnmodifiedSince(hierarchyModificationCount)) {
+            setHierarchy(ContractionHierarchy.build(graph));
+        }
+
+        return hierarchy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start or end node
+     *                                  is not part of the graph.
+     */
+    @Override
+    public synchronized List<N> calculatePath(N start, N end) {
+        ContractionHierarchy<N> hierarchy = getHierarchy();
+        int startIndex = hierarchy.indexOf(start);
+        int endIndex = hierarchy.indexOf(end);
+
+        try {
+            int meetingNode = search(hierarchy, startIndex, endIndex);
+
+            return meetingNode < 0 ? new LinkedList<>() : unpackPath(hierarchy, startIndex, endIndex, meetingNode);
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Returns the number of nodes settled by both searches of the last call of
+     * {@link #calculatePath(Object, Object)}.
+     *
+     * @return the number of settled nodes.
+     */
+    public synchronized int getSettledCount() {
+        return settledCount;
+    }
+
+    /**
+     * Uses the given hierarchy for the current version of the graph and allocates the buffers of the searches.
+     *
+     * @param hierarchy the hierarchy to use.
+     */
+    private void setHierarchy(ContractionHierarchy<N> hierarchy) {
+        int size = hierarchy.size();
+
+        this.hierarchy = hierarchy;
+        this.hierarchyModificationCount = graph.getModificationCount();
+
+        if (forwardDistances.length != size) {
+            forwardDistances = new int[size];
+            backwardDistances = new int[size];
+            forwardParents = new int[size];
+            forwardSlots = new int[size];
+            backwardParents = new int[size];
+            backwardSlots = new int[size];
+            forwardQueue = new IndexedMinHeap(size);
+            backwardQueue = new IndexedMinHeap(size);
+            Arrays.fill(forwardDistances, Integer.MAX_VALUE);
+            Arrays.fill(backwardDistances, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Runs the forward and the backward search.
+     *
+     * @param hierarchy the hierarchy to search in.
+     * @param start     the index of the start node.
+     * @param end       the index of the end node.
+     * @return the index of the node with the highest rank on the shortest path, or {@code -1} if there is no path.
+     */
+    private int search(ContractionHierarchy<N> hierarchy, int start, int end) {
+        forwardDistances[start] = 0;
+        backwardDistances[end] = 0;
+        touched.push(start, end);
+        forwardQueue.insert(start, 0);
+        backwardQueue.insert(end, 0);
+
+        long bestLength = Long.MAX_VALUE;
+        int meetingNode = -1;
+        settledCount = 0;
+
+        while (true) {
+            boolean forwardActive = !forwardQueue.isEmpty() && forwardQueue.peekKey() < bestLength;
+            boolean backwardActive = !backwardQueue.isEmpty() && backwardQueue.peekKey() < bestLength;
+
+            if (!forwardActive && !backwardActive) {
+                return meetingNode;
+            }
+
+            boolean forward = forwardActive && (!backwardActive || forwardQueue.peekKey() <= backwardQueue.peekKey());
+            int node = forward ? forwardQueue.extractMin() : backwardQueue.extractMin();
+            settledCount++;
+
+            if (forwardDistances[node] != Integer.MAX_VALUE && backwardDistances[node] != Integer.MAX_VALUE
+                && (long) forwardDistances[node] + backwardDistances[node] < bestLength) {
+                bestLength = (long) forwardDistances[node] + backwardDistances[node];
+                meetingNode = node;
+            }
+
+            if (forward) {
+                expandForward(hierarchy, node);
+            } else {
+                expandBackward(hierarchy, node);
+            }
+        }
+    }
+
+    /**
+     * Relaxes the upward edges of the given node in the forward search, unless the node is stalled.
+     *
+     * @param hierarchy the hierarchy to search in.
+     * @param node      the index of the node to expand.
+     */
+    private void expandForward(ContractionHierarchy<N> hierarchy, int node) {
+        int distance = forwardDistances[node];
+
+        // A downward edge of this node is an edge from a node of higher rank to it in the original direction
+        for (int slot = hierarchy.firstDown(node); slot < hierarchy.endDown(node); slot++) {
+            int from = forwardDistances[hierarchy.downSource(slot)];
+
+            if (from != Integer.MAX_VALUE && (long) from + hierarchy.downWeight(slot) < distance) {
+                return;
+            }
+        }
+
+        for (int slot = hierarchy.firstUp(node); slot < hierarchy.endUp(node); slot++) {
+            int to = hierarchy.upTarget(slot);
+            long newDistance = (long) distance + hierarchy.upWeight(slot);
+
+            if (newDistance < forwardDistances[to]) {
+                if (forwardDistances[to] == Integer.MAX_VALUE && backwardDistances[to] == Integer.MAX_VALUE) {
+                    touched.push(to);
+                }
+
+                forwardDistances[to] = (int) newDistance;
+                forwardParents[to] = node;
+                forwardSlots[to] = slot;
+                forwardQueue.insertOrDecrease(to, (int) newDistance);
+            }
+        }
+    }
+
+    /**
+     * Relaxes the downward edges of the given node in the backward search, unless the node is stalled.
+     *
+     * @param hierarchy the hierarchy to search in.
+     * @param node      the index of the node to expand.
+     */
+    private void expandBackward(ContractionHierarchy<N> hierarchy, int node) {
+        int distance = backwardDistances[node];
+
+        // An upward edge of this node leads to a node of higher rank in the original direction
+        for (int slot = hierarchy.firstUp(node); slot < hierarchy.endUp(node); slot++) {
+            int to = backwardDistances[hierarchy.upTarget(slot)];
+
+            if (to != Integer.MAX_VALUE && (long) to + hierarchy.upWeight(slot) < distance) {
+                return;
+            }
+        }
+
+        for (int slot = hierarchy.firstDown(node); slot < hierarchy.endDown(node); slot++) {
+            int from = hierarchy.downSource(slot);
+            long newDistance = (long) distance + hierarchy.downWeight(slot);
+
+            if (newDistance < backwardDistances[from]) {
+                if (forwardDistances[from] == Integer.MAX_VALUE && backwardDistances[from] == Integer.MAX_VALUE) {
+                    touched.push(from);
+                }
+
+                backwardDistances[from] = (int) newDistance;
+                backwardParents[from] = node;
+                backwardSlots[from] = slot;
+                backwardQueue.insertOrDecrease(from, (int) newDistance);
+            }
+        }
+    }
+
+    /**
+     * Creates the path from the start node to the end node through the given meeting node, with all shortcuts
+     * unpacked.
+     *
+     * @param hierarchy   the hierarchy the searches ran in.
+     * @param start       the index of the start node.
+     * @param end         the index of the end node.
+     * @param meetingNode the index of the node where both searches met.
+     * @return the list of nodes on the path.
+     */
+    private List<N> unpackPath(ContractionHierarchy<N> hierarchy, int start, int end, int meetingNode) {
+        ContractionHierarchy.IntStack upwardPath = new ContractionHierarchy.IntStack();
+
+        // Collect the nodes of the forward part from the meeting node back to the start node
+        for (int current = meetingNode; current != start; current = forwardParents[current]) {
+            upwardPath.push(current);
+        }
+
+        ContractionHierarchy.IntStack path = new ContractionHierarchy.IntStack();
+        path.push(start);
+
+        for (int i = upwardPath.size() - 1; i >= 0; i--) {
+            int to = upwardPath.get(i);
+            hierarchy.unpack(forwardParents[to], to, hierarchy.upMiddle(forwardSlots[to]), path);
+        }
+
+        for (int current = meetingNode; current != end; current = backwardParents[current]) {
+            hierarchy.unpack(current, backwardParents[current], hierarchy.downMiddle(backwardSlots[current]), path);
+        }
+
+        List<N> result = new LinkedList<>();
+
+        for (int i = 0; i < path.size(); i++) {
+            result.add(hierarchy.nodeAt(path.get(i)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Resets the buffers of the searches touched by the last query.
+     */
+    private void reset() {
+        for (int i = 0; i < touched.size(); i++) {
+            forwardDistances[touched.get(i)] = Integer.MAX_VALUE;
+            backwardDistances[touched.get(i)] = Integer.MAX_VALUE;
+        }
+
+        touched.clear();
+        forwardQueue.clear();
+        backwardQueue.clear();
+    }
+}
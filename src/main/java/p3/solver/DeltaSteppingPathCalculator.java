@@ -0,0 +1,439 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses the parallel delta-stepping algorithm to
+ * calculate the shortest path between two nodes in a {@link Graph}.
+ * <p>
+ * The nodes are kept in buckets of width {@code delta}: bucket {@code i} contains the nodes with a tentative distance in
+ * {@code [i * delta, (i + 1) * delta)}. The buckets are processed in ascending order. The edges are split into light
+ * edges, whose weight is at most {@code delta}, and heavy edges. Relaxing a light edge may add a node to the current
+ * bucket, so the light edges of the current bucket are relaxed repeatedly until the bucket stays empty. Afterwards, the
+ * heavy edges of all nodes removed from the bucket are relaxed once. Both kinds of relaxation are performed in parallel
+ * on a {@link ForkJoinPool}, with the distances stored in an {@link AtomicIntegerArray} and lowered by
+ * compare-and-set.
+ * <p>
+ * A small {@code delta} makes the algorithm behave like Dijkstra's algorithm with little parallelism, a large one like
+ * the Bellman-Ford algorithm with much redundant work. By default, {@code delta} is chosen as the maximum weight divided
+ * by the average out-degree.
+ * <p>
+ * The algorithm requires non-negative weights. {@link #calculatePath(Object, Object)} stops as soon as the bucket of the
+ * end node has been processed, while {@link #calculateDistances(Object)} and {@link #calculateFrom(Object)} calculate
+ * the distances to all nodes.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class DeltaSteppingPathCalculator<N> extends IndexedPathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link DeltaSteppingPathCalculator} that choose the bucket width
+     * automatically and use the common pool.
+     */
+    public static final PathCalculator.Factory FACTORY = DeltaSteppingPathCalculator::new;
+
+    /**
+     * The value of {@link #delta} that selects the bucket width automatically.
+     */
+    public static final int AUTOMATIC_DELTA = 0;
+
+    /**
+     * The number of nodes below which the nodes of a bucket are not split among multiple threads any further.
+     */
+    private static final int THRESHOLD = 256;
+
+    /**
+     * The width of the buckets, or {@link #AUTOMATIC_DELTA}.
+     */
+    private final int delta;
+
+    /**
+     * The pool to run the relaxations in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link DeltaSteppingPathCalculator} for the given graph that chooses the bucket width automatically
+     * and uses the common pool.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public DeltaSteppingPathCalculator(Graph<N> graph) {
+        this(graph, AUTOMATIC_DELTA, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link DeltaSteppingPathCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     * @param delta the width of the buckets, or {@link #AUTOMATIC_DELTA} to choose it automatically.
+     * @param pool  the pool to run the relaxations in. It is not shut down by this class and can be shared.
+     * @throws IllegalArgumentException if {@code delta} is negative.
+     */
+    public DeltaSteppingPathCalculator(Graph<N> graph, int delta, ForkJoinPool pool) {
+        super(graph);
+
+        if (delta < 0) {
+            throw new IllegalArgumentException("The bucket width must not be negative: " + delta);
+        }
+
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link DeltaSteppingPathCalculator} with the given bucket width
+     * that use the given pool.
+     *
+     * @param delta the width of the buckets, or {@link #AUTOMATIC_DELTA} to choose it automatically.
+     * @param pool  the pool to run the relaxations in.
+     * @return a factory for creating new instances of {@link DeltaSteppingPathCalculator}.
+     */
+    public static PathCalculator.Factory factory(int delta, ForkJoinPool pool) {
+        return new PathCalculator.Factory() {
+            @Override
+            public <N> PathCalculator<N> create(Graph<N> graph) {
+                return new DeltaSteppingPathCalculator<>(graph, delta, pool);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the end node is not reachable from the start node, an empty list is returned.
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start or end node
+     *                                  is not part of the graph.
+     */
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        int endIndex = indexedGraph.indexOf(end);
+
+        int[] distances = new Run(indexedGraph).execute(startIndex, endIndex);
+
+        return reconstructPath(indexedGraph, tightPredecessors(indexedGraph, distances, startIndex), startIndex,
+            endIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start node is not
+     *                                  part of the graph.
+     */
+    @Override
+    public ShortestPathTree<N> calculateFrom(N start) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        int[] distances = new Run(indexedGraph).execute(startIndex, -1);
+
+        return new IndexedShortestPathTree<>(indexedGraph, startIndex, distances,
+            tightPredecessors(indexedGraph, distances, startIndex));
+    }
+
+    /**
+     * Calculates the distance from the given node to every node of the graph.
+     * <p>
+     * The element at position {@code i} of the result is the distance to the {@code i}-th node in the iteration order of
+     * {@link Graph#getNodes()}, or {@link Integer#MAX_VALUE} if that node is not reachable.
+     *
+     * @param start the node to calculate the distances from.
+     * @return the distance to each node.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start node is not
+     *                                  part of the graph.
+     */
+    public int[] calculateDistances(N start) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+
+        return new Run(indexedGraph).execute(indexedGraph.indexOf(start), -1);
+    }
+
+    /**
+     * The state of a single execution of the algorithm.
+     */
+    private final class Run {
+
+        /**
+         * The graph to calculate the distances in.
+         */
+        private final IndexedGraph<N> indexedGraph;
+
+        /**
+         * The width of the buckets used in this execution.
+         */
+        private final int bucketWidth;
+
+        /**
+         * The index of the node each edge ends at, with the light edges of each node before its heavy edges.
+         */
+        private final int[] targets;
+
+        /**
+         * The weight of each edge, in the same order as {@link #targets}.
+         */
+        private final int[] weights;
+
+        /**
+         * The slot after the last light edge of each node.
+         */
+        private final int[] lightEnds;
+
+        /**
+         * The tentative distance to each node.
+         */
+        private final AtomicIntegerArray distances;
+
+        /**
+         * The bucket each node was last added to, or {@code -1} if it is not in a bucket.
+         */
+        private final int[] queuedIn;
+
+        /**
+         * The non-empty buckets, by their index.
+         */
+        private final TreeMap<Integer, IntList> buckets = new TreeMap<>();
+
+        /**
+         * Creates a new {@link Run} for the given graph.
+         *
+         * @param indexedGraph the graph to calculate the distances in.
+         * @throws IllegalArgumentException if the graph contains an edge with a negative weight.
+         */
+        private Run(IndexedGraph<N> indexedGraph) {
+            DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+            int size = indexedGraph.size();
+
+            this.indexedGraph = indexedGraph;
+            this.bucketWidth = delta != AUTOMATIC_DELTA ? delta : automaticDelta(indexedGraph);
+            this.targets = new int[indexedGraph.edgeCount()];
+            this.weights = new int[indexedGraph.edgeCount()];
+            this.lightEnds = new int[size];
+            this.distances = new AtomicIntegerArray(size);
+            this.queuedIn = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                int light = indexedGraph.firstEdge(i);
+                int heavy = indexedGraph.endEdge(i);
+
+                // Fill light edges from the front and heavy edges from the back of the node's slots
+                for (int slot = indexedGraph.firstEdge(i); slot < indexedGraph.endEdge(i); slot++) {
+                    int position = indexedGraph.weight(slot) <= bucketWidth ? light++ : --heavy;
+                    targets[position] = indexedGraph.target(slot);
+                    weights[position] = indexedGraph.weight(slot);
+                }
+
+                lightEnds[i] = light;
+                distances.set(i, Integer.MAX_VALUE);
+                queuedIn[i] = -1;
+            }
+        }
+
+        /**
+         * Executes the algorithm.
+         *
+         * @param start the index of the start node.
+         * @param end   the index of the end node, or {@code -1} to calculate the distances to all nodes.
+         * @return the distance to each node. If an end node is given, only the distances of the nodes in buckets up to
+         * the bucket of the end node are final.
+         */
+        private int[] execute(int start, int end) {
+            distances.set(start, 0);
+            enqueue(start);
+
+            while (!buckets.isEmpty()) {
+                int bucket = buckets.firstKey();
+
+                if (end >= 0 && distances.get(end) != Integer.MAX_VALUE && bucket > distances.get(end) / bucketWidth) {
+                    break;
+                }
+
+                IntList removed = new IntList();
+
+                while (buckets.containsKey(bucket)) {
+                    IntList frontier = takeBucket(bucket);
+                    removed.addAll(frontier);
+                    relax(frontier, true);
+                }
+
+                relax(removed, false);
+            }
+
+            int[] result = new int[distances.length()];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = distances.get(i);
+            }
+
+            return result;
+        }
+
+        /**
+         * Removes the bucket with the given index and returns the nodes in it whose distance still belongs to it.
+         *
+         * @param bucket the index of the bucket.
+         * @return the nodes of the bucket.
+         */
+        private IntList takeBucket(int bucket) {
+            IntList nodes = buckets.remove(bucket);
+            IntList frontier = new IntList();
+
+            for (int i = 0; i < nodes.size; i++) {
+                int node = nodes.values[i];
+
+                if (queuedIn[node] == bucket) {
+                    queuedIn[node] = -1;
+                    frontier.add(node);
+                }
+            }
+
+            return frontier;
+        }
+
+        /**
+         * Relaxes the light or heavy edges of the given nodes in parallel and adds all nodes whose distance was lowered to
+         * their new bucket.
+         *
+         * @param nodes the nodes whose edges to relax.
+         * @param light whether to relax the light or the heavy edges.
+         */
+        private void relax(IntList nodes, boolean light) {
+            ConcurrentLinkedQueue<IntList> updates = new ConcurrentLinkedQueue<>();
+
+            ParallelRange.forEach(pool, nodes.size, THRESHOLD, (start, end) -> {
+                IntList updated = new IntList();
+
+                for (int i = start; i < end; i++) {
+                    int node = nodes.values[i];
+                    int distance = distances.get(node);
+                    int first = light ? indexedGraph.firstEdge(node) : lightEnds[node];
+                    int last = light ? lightEnds[node] : indexedGraph.endEdge(node);
+
+                    for (int slot = first; slot < last; slot++) {
+                        if (updateMin(distances, targets[slot], distance + weights[slot])) {
+                            updated.add(targets[slot]);
+                        }
+                    }
+                }
+
+                if (updated.size > 0) {
+                    updates.add(updated);
+                }
+            });
+
+            for (IntList updated : updates) {
+                for (int i = 0; i < updated.size; i++) {
+                    enqueue(updated.values[i]);
+                }
+            }
+        }
+
+        /**
+         * Adds the given node to the bucket of its current distance, unless it is already in it.
+         *
+         * @param node the node to add.
+         */
+        private void enqueue(int node) {
+            int bucket = distances.get(node) / bucketWidth;
+
+            if (queuedIn[node] != bucket) {
+                queuedIn[node] = bucket;
+                buckets.computeIfAbsent(bucket, k -> new IntList()).add(node);
+            }
+        }
+    }
+
+    /**
+     * Sets the value at the given index to the given value if it is smaller than the current value.
+     *
+     * @param array the array to update.
+     * @param index the index of the value to update.
+     * @param value the new value.
+     * @return {@code true} if the value was updated, {@code false} otherwise.
+     */
+    private static boolean updateMin(AtomicIntegerArray array, int index, int value) {
+        int current = array.get(index);
+
+        while (value < current) {
+            if (array.compareAndSet(index, current, value)) {
+                return true;
+            }
+
+            current = array.get(index);
+        }
+
+        return false;
+    }
+
+    /**
+     * Chooses the bucket width for the given graph as its maximum weight divided by its average out-degree.
+     *
+     * @param indexedGraph the graph to choose the bucket width for.
+     * @return the bucket width, at least {@code 1}.
+     */
+    private static int automaticDelta(IndexedGraph<?> indexedGraph) {
+        int maxWeight = 0;
+
+        for (int slot = 0; slot < indexedGraph.edgeCount(); slot++) {
+            maxWeight = Math.max(maxWeight, indexedGraph.weight(slot));
+        }
+
+        long averageDegree = Math.max(1, indexedGraph.edgeCount() / Math.max(1, indexedGraph.size()));
+
+        return (int) Math.max(1, maxWeight / averageDegree);
+    }
+
+    /**
+     * A growable list of {@code int} values.
+     */
+    private static final class IntList {
+
+        /**
+         * The values in the list, followed by unused space.
+         */
+        private int[] values = new int[8];
+
+        /**
+         * The number of values in the list.
+         */
+        private int size = 0;
+
+        /**
+         * Appends the given value to the list.
+         *
+         * @param value the value to append.
+         */
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            values[size++] = value;
+        }
+
+        /**
+         * Appends all values of the given list to this list.
+         *
+         * @param other the list whose values to append.
+         */
+        private void addAll(IntList other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+}
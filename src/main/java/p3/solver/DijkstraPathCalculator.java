@@ -0,0 +1,147 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses the Dijkstra algorithm to calculate the shortest
+ * path between two nodes in a {@link Graph}.
+ * <p>
+ * The algorithm works on the indices of an {@link IndexedGraph} and keeps the nodes that have been reached but not yet
+ * settled in an {@link IndexedMinHeap}. It stops as soon as the end node is settled, so nodes that are farther away
+ * than the end node are never processed.
+ * <p>
+ * Dijkstra's algorithm is only correct if no edge has a negative weight. Such graphs are rejected; use
+ * {@link BellmanFordPathCalculator} for them instead. If the end node is not reachable from the start node, an empty
+ * list is returned.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class DijkstraPathCalculator<N> extends IndexedPathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link DijkstraPathCalculator}.
+     */
+    public static final PathCalculator.Factory FACTORY = DijkstraPathCalculator::new;
+
+    /**
+     * The number of nodes settled by the last calculation.
+     */
+    private int settledCount = 0;
+
+    /**
+     * Creates a new {@link DijkstraPathCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public DijkstraPathCalculator(Graph<N> graph) {
+        super(graph);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start or end node
+     *                                  is not part of the graph.
+     */
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        int endIndex = indexedGraph.indexOf(end);
+        int[] predecessors = new int[indexedGraph.size()];
+
+        run(indexedGraph, startIndex, endIndex, predecessors);
+
+        return reconstructPath(indexedGraph, predecessors, startIndex, endIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or if the start node is not
+     *                                  part of the graph.
+     */
+    @Override
+    public ShortestPathTree<N> calculateFrom(N start) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        int[] predecessors = new int[indexedGraph.size()];
+        int[] distances = run(indexedGraph, startIndex, -1, predecessors);
+
+        return new IndexedShortestPathTree<>(indexedGraph, startIndex, distances, predecessors);
+    }
+
+    /**
+     * Executes Dijkstra's algorithm from the node with index {@code start} until the node with index {@code end} is
+     * settled or, if {@code end} is {@code -1}, until all reachable nodes are settled.
+     *
+     * @param indexedGraph the graph to calculate the shortest paths in.
+     * @param start        the index of the start node.
+     * @param end          the index of the end node, or {@code -1}.
+     * @param predecessors the array to store the index of the predecessor of each node in, or {@code -1} if it has
+     *                     none.
+     * @return the distance to each node, or {@link Integer#MAX_VALUE} if it has not been reached.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight.
+     */
+    private int[] run(IndexedGraph<?> indexedGraph, int start, int end, int[] predecessors) {
+        checkNonNegative(indexedGraph);
+
+        int size = indexedGraph.size();
+        int[] distances = new int[size];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+
+        IndexedMinHeap queue = new IndexedMinHeap(size);
+        distances[start] = 0;
+        queue.insert(start, 0);
+        settledCount = 0;
+
+        while (!queue.isEmpty()) {
+            int node = queue.extractMin();
+            settledCount++;
+
+            if (node == end) {
+                break;
+            }
+
+            for (int slot = indexedGraph.firstEdge(node); slot < indexedGraph.endEdge(node); slot++) {
+                int to = indexedGraph.target(slot);
+                int distance = distances[node] + indexedGraph.weight(slot);
+
+                if (distance < distances[to]) {
+                    distances[to] = distance;
+                    predecessors[to] = node;
+                    queue.insertOrDecrease(to, distance);
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns the number of nodes settled by the last call of {@link #calculatePath(Object, Object)} or
+     * {@link #calculateFrom(Object)}, including the end node.
+     *
+     * @return the number of settled nodes.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    /**
+     * Checks that no edge of the given graph has a negative weight.
+     *
+     * @param indexedGraph the graph to check.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight.
+     */
+    static void checkNonNegative(IndexedGraph<?> indexedGraph) {
+        if (indexedGraph.hasNegativeWeights()) {
+            throw new IllegalArgumentException("The graph contains an edge with a negative weight");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package p3.solver;
+
+/**
+ * A disjoint-set (union-find) data structure over the elements {@code [0, size - 1]}.
+ * <p>
+ * Every set is represented by a tree whose root is the representative of the set. {@link #find(int)} compresses the
+ * path to the root and {@link #union(int, int)} attaches the tree of smaller rank to the other one, so that a sequence of
+ * operations takes nearly linear time in total.
+ */
+final class DisjointSet {
+
+    /**
+     * The parent of each element. The parent of a representative is the element itself.
+     */
+    private final int[] parents;
+
+    /**
+     * An upper bound for the height of the tree of each representative.
+     */
+    private final byte[] ranks;
+
+    /**
+     * Creates a new {@link DisjointSet} in which every element is in its own set.
+     *
+     * @param size the number of elements.
+     */
+    DisjointSet(int size) {
+        this.parents = new int[size];
+        this.ranks = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Returns the representative of the set containing the given element.
+     *
+     * @param element the element to find the representative of.
+     * @return the representative of the set containing the element.
+     */
+    int find(int element) {
+        int root = element;
+
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+
+        // Compress the path, so that every element on it points directly to the root
+        while (parents[element] != root) {
+            int parent = parents[element];
+            parents[element] = root;
+            element = parent;
+        }
+
+        return root;
+    }
+
+    /**
+     * Merges the sets containing the given elements.
+     *
+     * @param a the first element.
+     * @param b the second element.
+     * @return {@code true} if the elements were in different sets, {@code false} if they were already in the same set.
+     */
+    boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+
+        if (rootA == rootB) {
+            return false;
+        }
+
+        if (ranks[rootA] < ranks[rootB]) {
+            parents[rootA] = rootB;
+        } else if (ranks[rootA] > ranks[rootB]) {
+            parents[rootB] = rootA;
+        } else {
+            parents[rootB] = rootA;
+            ranks[rootA]++;
+        }
+
+        return true;
+    }
+}
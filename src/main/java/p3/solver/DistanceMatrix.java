@@ -0,0 +1,159 @@
+package p3.solver;
+
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The distances between all pairs of nodes of a graph, as calculated by an {@link AllPairsCalculator}.
+ * <p>
+ * The distances are stored in a single {@code int} array in row-major order: the distance from the node with index
+ * {@code i} to the node with index {@code j} is stored at {@code i * size() + j}, where the indices are those of the
+ * {@link IndexedGraph} the matrix was calculated from. Unreachable nodes have the distance {@link Integer#MAX_VALUE}.
+ * <p>
+ * Optionally, the matrix also stores the next hop of each shortest path in the same layout, which allows to
+ * reconstruct the path between any two nodes with {@link #pathTo(Object, Object)}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public final class DistanceMatrix<N> {
+
+    /**
+     * The graph the indices belong to.
+     */
+    private final IndexedGraph<N> indexedGraph;
+
+    /**
+     * The distance between each pair of nodes in row-major order.
+     */
+    private final int[] distances;
+
+    /**
+     * The index of the node following the first node on the shortest path between each pair of nodes in row-major
+     * order, or {@code -1} if there is no such path. {@code null} if the next hops were not calculated.
+     */
+    private final int[] nextHops;
+
+    /**
+     * Creates a new {@link DistanceMatrix} that takes ownership of the given arrays.
+     *
+     * @param indexedGraph the graph the indices belong to.
+     * @param distances    the distance between each pair of nodes in row-major order.
+     * @param nextHops     the next hop on the shortest path between each pair of nodes in row-major order, or
+     *                     {@code null}.
+     */
+    DistanceMatrix(IndexedGraph<N> indexedGraph, int[] distances, int[] nextHops) {
+        this.indexedGraph = indexedGraph;
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    /**
+     * Returns the number of nodes, i.e., the number of rows and columns of the matrix.
+     *
+     * @return the number of nodes.
+     */
+    public int size() {
+        return indexedGraph.size();
+    }
+
+    /**
+     * Returns the node with the given index, i.e., the node of the given row or column.
+     *
+     * @param index the index of the node.
+     * @return the node with the given index.
+     * @throws IndexOutOfBoundsException if the given index is not in the range {@code [0, size() - 1]}.
+     */
+    public N nodeAt(int index) {
+        return indexedGraph.nodeAt(index);
+    }
+
+    /**
+     * Returns the index of the given node, i.e., its row and column in the matrix.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the node.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    public int indexOf(N node) {
+        return indexedGraph.indexOf(node);
+    }
+
+    /**
+     * Returns the length of the shortest path from the node {@code from} to the node {@code to}.
+     *
+     * @param from the start node of the path.
+     * @param to   the end node of the path.
+     * @return the length of the shortest path, or {@link Integer#MAX_VALUE} if there is none.
+     * @throws IllegalArgumentException if one of the nodes is not part of the graph.
+     */
+    public int distance(N from, N to) {
+        return distances[indexOf(from) * size() + indexOf(to)];
+    }
+
+    /**
+     * Returns whether the node {@code to} can be reached from the node {@code from}.
+     *
+     * @param from the start node of the path.
+     * @param to   the end node of the path.
+     * @return {@code true} if there is a path, {@code false} otherwise.
+     * @throws IllegalArgumentException if one of the nodes is not part of the graph.
+     */
+    public boolean isReachable(N from, N to) {
+        return distance(from, to) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether the next hops were calculated, i.e., whether {@link #pathTo(Object, Object)} can be used.
+     *
+     * @return {@code true} if the next hops were calculated, {@code false} otherwise.
+     */
+    public boolean hasPaths() {
+        return nextHops != null;
+    }
+
+    /**
+     * Returns the shortest path from the node {@code from} to the node {@code to}.
+     *
+     * @param from the start node of the path.
+     * @param to   the end node of the path.
+     * @return a list of nodes representing the path, or an empty list if {@code to} is not reachable from
+     * {@code from}.
+     * @throws IllegalArgumentException if one of the nodes is not part of the graph.
+     * @throws IllegalStateException    if the next hops were not calculated.
+     */
+    public List<N> pathTo(N from, N to) {
+        if (nextHops == null) {
+            throw new IllegalStateException("The next hops were not calculated");
+        }
+
+        int size = size();
+        int current = indexOf(from);
+        int end = indexOf(to);
+        List<N> path = new LinkedList<>();
+
+        if (distances[current * size + end] == Integer.MAX_VALUE) {
+            return path;
+        }
+
+        path.add(indexedGraph.nodeAt(current));
+
+        while (current != end) {
+            current = nextHops[current * size + end];
+            path.add(indexedGraph.nodeAt(current));
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns a copy of the distances in row-major order.
+     *
+     * @return a new array containing the distance between each pair of nodes.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(distances, distances.length);
+    }
+}
@@ -0,0 +1,232 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An implementation of the {@link AllPairsCalculator} interface that uses the Floyd-Warshall algorithm to calculate
+ * the distances between all pairs of nodes in a {@link Graph}. It is intended for dense graphs, for which its
+ * {@code O(|V|^3)} running time does not depend on the number of edges.
+ * <p>
+ * The distances are stored in a single {@code int} array in row-major order, which is divided into square tiles of
+ * {@link #BLOCK_SIZE} rows and columns that fit into the cache. For each block of intermediate nodes, the tile on the
+ * diagonal is updated first, then the other tiles in its row and its column, and finally all remaining tiles. Within
+ * the last two phases, the tiles do not depend on each other and are updated in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * A negative cycle is detected by a negative distance from a node to itself on the diagonal of the matrix, which is
+ * checked after every block, so that the distances cannot grow arbitrarily negative.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class FloydWarshallAllPairsCalculator<N> implements AllPairsCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link FloydWarshallAllPairsCalculator} that calculate the next hops and use
+     * the common pool.
+     */
+    public static final AllPairsCalculator.Factory FACTORY = FloydWarshallAllPairsCalculator::new;
+
+    /**
+     * The number of rows and columns of a tile. Three tiles of {@code int} values take 48 KiB.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * The graph to calculate the distances in.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * Whether to calculate the next hops of the shortest paths.
+     */
+    private final boolean paths;
+
+    /**
+     * The pool to update the independent tiles in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link FloydWarshallAllPairsCalculator} for the given graph that calculates the next hops and uses
+     * the common pool.
+     *
+     * @param graph the graph to calculate the distances in.
+     */
+    public FloydWarshallAllPairsCalculator(Graph<N> graph) {
+        this(graph, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link FloydWarshallAllPairsCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the distances in.
+     * @param paths whether to calculate the next hops of the shortest paths.
+     * @param pool  the pool to update the independent tiles in.
+     */
+    public FloydWarshallAllPairsCalculator(Graph<N> graph, boolean paths, ForkJoinPool pool) {
+        this.graph = graph;
+        this.paths = paths;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link FloydWarshallAllPairsCalculator}.
+     *
+     * @param paths whether to calculate the next hops of the shortest paths.
+     * @param pool  the pool to update the independent tiles in.
+     * @return a factory for creating new instances of {@link FloydWarshallAllPairsCalculator}.
+     */
+    public static AllPairsCalculator.Factory factory(boolean paths, ForkJoinPool pool) {
+        return new AllPairsCalculator.Factory() {
+            @Override
+            public <N> AllPairsCalculator<N> create(Graph<N> graph) {
+                return new FloydWarshallAllPairsCalculator<>(graph, paths, pool);
+            }
+        };
+    }
+
+    @Override
+    public DistanceMatrix<N> calculateAllPairs() {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        int size = indexedGraph.size();
+        int[] distances = new int[size * size];
+        int[] nextHops = paths ? new int[size * size] : null;
+
+        initialize(indexedGraph, distances, nextHops);
+
+        int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        for (int k = 0; k < blocks; k++) {
+            int block = k;
+
+            updateTile(distances, nextHops, size, block, block, block);
+
+            // The other tiles in the row and in the column of the diagonal tile
+            ParallelRange.forEach(pool, 2 * blocks, 1, (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    int other = i / 2;
+
+                    if (other == block) {
+                        continue;
+                    }
+
+                    if (i % 2 == 0) {
+                        updateTile(distances, nextHops, size, block, other, block);
+                    } else {
+                        updateTile(distances, nextHops, size, other, block, block);
+                    }
+                }
+            });
+
+            // All remaining tiles
+            ParallelRange.forEach(pool, blocks * blocks, 1, (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    int row = i / blocks;
+                    int column = i % blocks;
+
+                    if (row != block && column != block) {
+                        updateTile(distances, nextHops, size, row, column, block);
+                    }
+                }
+            });
+
+            for (int i = 0; i < size; i++) {
+                if (distances[i * size + i] < 0) {
+                    throw new CycleException("A negative cycle was detected");
+                }
+            }
+        }
+
+        return new DistanceMatrix<>(indexedGraph, distances, nextHops);
+    }
+
+    /**
+     * Initializes the distances and next hops with the edges of the given graph. If there are several edges between
+     * the same nodes, the one with the smallest weight is used.
+     *
+     * @param indexedGraph the graph to calculate the distances in.
+     * @param distances    the distance matrix to initialize.
+     * @param nextHops     the next hop matrix to initialize, or {@code null}.
+     */
+    private static void initialize(IndexedGraph<?> indexedGraph, int[] distances, int[] nextHops) {
+        int size = indexedGraph.size();
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        if (nextHops != null) {
+            Arrays.fill(nextHops, -1);
+        }
+
+        for (int i = 0; i < size; i++) {
+            distances[i * size + i] = 0;
+            if (nextHops != null) {
+                nextHops[i * size + i] = i;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            for (int slot = indexedGraph.firstEdge(i); slot < indexedGraph.endEdge(i); slot++) {
+                int position = i * size + indexedGraph.target(slot);
+
+                if (indexedGraph.weight(slot) < distances[position]) {
+                    distances[position] = indexedGraph.weight(slot);
+                    if (nextHops != null) {
+                        nextHops[position] = indexedGraph.target(slot);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the tile in the given row and column of tiles with the intermediate nodes of the given block.
+     * <p>
+     * Sums that are smaller than {@link Integer#MIN_VALUE} can only occur with negative cycles and are clamped, so that
+     * they are still detected on the diagonal.
+     *
+     * @param distances the distance matrix.
+     * @param nextHops  the next hop matrix, or {@code null}.
+     * @param size      the number of rows and columns of the matrices.
+     * @param row       the row of the tile to update.
+     * @param column    the column of the tile to update.
+     * @param block     the block of intermediate nodes to use.
+     */
+    private static void updateTile(int[] distances, int[] nextHops, int size, int row, int column, int block) {
+        int rowEnd = Math.min(size, (row + 1) * BLOCK_SIZE);
+        int columnStart = column * BLOCK_SIZE;
+        int columnEnd = Math.min(size, columnStart + BLOCK_SIZE);
+        int blockEnd = Math.min(size, (block + 1) * BLOCK_SIZE);
+
+        for (int k = block * BLOCK_SIZE; k < blockEnd; k++) {
+            int kRow = k * size;
+
+            for (int i = row * BLOCK_SIZE; i < rowEnd; i++) {
+                int iRow = i * size;
+                int viaK = distances[iRow + k];
+
+                if (viaK == Integer.MAX_VALUE) {
+                    continue;
+                }
+
+                for (int j = columnStart; j < columnEnd; j++) {
+                    int fromK = distances[kRow + j];
+
+                    if (fromK == Integer.MAX_VALUE) {
+                        continue;
+                    }
+
+                    long distance = (long) viaK + fromK;
+
+                    if (distance < distances[iRow + j]) {
+                        distances[iRow + j] = (int) Math.max(distance, Integer.MIN_VALUE);
+                        if (nextHops != null) {
+                            nextHops[iRow + j] = nextHops[iRow + k];
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package p3.solver;
+
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An implementation of the {@link MSTCalculator} interface that uses the Prim algorithm with a binary heap to calculate
+ * the minimum spanning tree of a {@link Graph}.
+ * <p>
+ * In contrast to {@link PrimMSTCalculator}, which scans all remaining nodes to find the one with the smallest key, the
+ * remaining nodes are kept in an {@link IndexedMinHeap} and updated with decrease-key operations. The graph is
+ * converted to an {@link IndexedGraph} once per calculation, so the main loop works on {@code int} arrays only. This
+ * reduces the running time from {@code O(|V|^2)} to {@code O(|E| log |V|)}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class HeapPrimMSTCalculator<N> implements MSTCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link HeapPrimMSTCalculator}.
+     */
+    public static final MSTCalculator.Factory FACTORY = HeapPrimMSTCalculator::new;
+
+    /**
+     * The graph to calculate the MST for.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * Creates a new {@link HeapPrimMSTCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the MST for.
+     */
+    public HeapPrimMSTCalculator(Graph<N> graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Graph<N> calculateMST(N root) {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        int size = indexedGraph.size();
+        int rootIndex = indexedGraph.indexOf(root);
+
+        int[] predecessors = new int[size];
+        IndexedMinHeap remainingNodes = new IndexedMinHeap(size);
+
+        for (int i = 0; i < size; i++) {
+            predecessors[i] = -1;
+            remainingNodes.insert(i, i == rootIndex ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+        }
+
+        while (!remainingNodes.isEmpty()) {
+            int node = remainingNodes.extractMin();
+
+            for (int slot = indexedGraph.firstEdge(node); slot < indexedGraph.endEdge(node); slot++) {
+                int to = indexedGraph.target(slot);
+                int weight = indexedGraph.weight(slot);
+
+                if (remainingNodes.contains(to) && weight < remainingNodes.key(to)) {
+                    remainingNodes.decreaseKey(to, weight);
+                    predecessors[to] = node;
+                }
+            }
+        }
+
+        Set<Edge<N>> mstEdges = new HashSet<>();
+
+        for (int i = 0; i < size; i++) {
+            if (predecessors[i] >= 0) {
+                mstEdges.add(Edge.of(indexedGraph.nodeAt(predecessors[i]), indexedGraph.nodeAt(i), remainingNodes.key(i)));
+            }
+        }
+
+        return Graph.of(graph.getNodes(), mstEdges);
+    }
+}
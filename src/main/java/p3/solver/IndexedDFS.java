@@ -0,0 +1,262 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An implementation of the {@link GraphTraverser} interface that uses the Depth-First Search algorithm on dense node
+ * indices to traverse the graph.
+ * <p>
+ * Unlike {@link DFS}, the state of the traversal is not stored in maps keyed by the nodes, but in arrays indexed by the
+ * indices of a {@link NeighborIndex}: a {@code byte} array for the colors and {@code int} arrays for the discovery
+ * times, the finish times and the predecessors. The arrays and the neighbors are reused by every traversal until the
+ * {@link Graph#getModificationCount() modification count} of the graph changes, so a traversal only resets the colors
+ * and predecessors instead of allocating per-node entries. Like {@link IterativeDFS}, the nodes are visited with an
+ * explicit stack.
+ * <p>
+ * The neighbors are visited in the order of {@link Graph#getAdjacentNodes(Object)}, so the results are the same as
+ * those of {@link DFS}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class IndexedDFS<N> implements GraphTraverser<N> {
+
+    /**
+     * Factory for creating new instances of {@link IndexedDFS}.
+     */
+    public static final GraphTraverser.Factory FACTORY = IndexedDFS::new;
+
+    /**
+     * The color of a node that has not been discovered yet.
+     */
+    private static final byte WHITE = 0;
+
+    /**
+     * The color of a node that has been discovered but not yet finished.
+     */
+    private static final byte GRAY = 1;
+
+    /**
+     * The color of a node that has been finished.
+     */
+    private static final byte BLACK = 2;
+
+    /**
+     * The graph to traverse.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * The neighbors of all nodes, or {@code null} if the graph has not been traversed yet.
+     */
+    private NeighborIndex<N> neighbors;
+
+    /**
+     * The current color of each node.
+     */
+    private byte[] colors = new byte[0];
+
+    /**
+     * The discovery time of each node. Only valid for nodes that have been discovered.
+     */
+    private int[] discoveryTimes = new int[0];
+
+    /**
+     * The finish time of each node. Only valid for nodes that have been finished.
+     */
+    private int[] finishTimes = new int[0];
+
+    /**
+     * The index of the used predecessor of each node, or {@code -1} if it has none.
+     */
+    private int[] predecessors = new int[0];
+
+    /**
+     * The frames of the stack. The frame at depth {@code d} consists of the index of the node at {@code 2 * d} and the
+     * position of its next neighbor in {@link #neighbors} at {@code 2 * d + 1}.
+     */
+    private int[] stack = new int[32];
+
+    /**
+     * Stores the current time during the traversal.
+     */
+    private int time = 0;
+
+    /**
+     * Stores whether a cycle has been detected during the traversal of the graph.
+     */
+    private boolean cyclic = false;
+
+    /**
+     * Creates a new {@link IndexedDFS} for the given graph.
+     *
+     * @param graph the graph to traverse.
+     */
+    public IndexedDFS(Graph<N> graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public void traverse(ObjIntConsumer<N> consumer) {
+        init();
+
+        for (int i = 0; i < neighbors.size(); i++) {
+            if (colors[i] == WHITE) {
+                visit(consumer, i);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the graph contains cycles.
+     * <p>
+     * The result is only valid for the last traversal of the graph. If the graph has not been traversed yet, the result
+     * is always {@code false}.
+     *
+     * @return {@code true} if the graph contains cycles, {@code false} otherwise.
+     */
+    public boolean isCyclic() {
+        return cyclic;
+    }
+
+    /**
+     * Returns the discovery time of the given node in the last traversal.
+     *
+     * @param node the node to get the discovery time of.
+     * @return the discovery time of the node.
+     * @throws IllegalArgumentException if the given node was not part of the graph in the last traversal.
+     * @throws IllegalStateException    if the graph has not been traversed yet.
+     */
+    public int getDiscoveryTime(N node) {
+        return discoveryTimes[indexOf(node)];
+    }
+
+    /**
+     * Returns the finish time of the given node in the last traversal.
+     *
+     * @param node the node to get the finish time of.
+     * @return the finish time of the node.
+     * @throws IllegalArgumentException if the given node was not part of the graph in the last traversal.
+     * @throws IllegalStateException    if the graph has not been traversed yet.
+     */
+    public int getFinishTime(N node) {
+        return finishTimes[indexOf(node)];
+    }
+
+    /**
+     * Returns the node the given node was discovered from in the last traversal.
+     *
+     * @param node the node to get the predecessor of.
+     * @return the predecessor of the node, or {@code null} if the traversal started at the node.
+     * @throws IllegalArgumentException if the given node was not part of the graph in the last traversal.
+     * @throws IllegalStateException    if the graph has not been traversed yet.
+     */
+    public N getPredecessor(N node) {
+        int predecessor = predecessors[indexOf(node)];
+
+        return predecessor < 0 ? null : neighbors.nodeAt(predecessor);
+    }
+
+    /**
+     * Initializes the traversal to its starting state, i.e., all nodes are colored white, no node has a predecessor and
+     * the time is set to 0. The times do not need to be reset, since every node is discovered and finished again.
+     */
+    private void init() {
+        if (neighbors == null || !neighbors.isCurrent(graph)) {
+            neighbors = NeighborIndex.of(graph);
+        }
+
+        int size = neighbors.size();
+
+        if (colors.length != size) {
+            colors = new byte[size];
+            discoveryTimes = new int[size];
+            finishTimes = new int[size];
+            predecessors = new int[size];
+        } else {
+            Arrays.fill(colors, WHITE);
+        }
+
+        Arrays.fill(predecessors, -1);
+        cyclic = false;
+        time = 0;
+    }
+
+    /**
+     * Visits the node with the given index and all nodes that are reachable from it and have not been discovered yet.
+     * <p>
+     * A node is discovered by coloring it gray. After all its neighbors have been visited, it is finished, i.e., colored
+     * black and passed to the consumer.
+     *
+     * @param consumer Function that accepts the node and its finish time.
+     * @param root     the index of the node to start at.
+     */
+    private void visit(ObjIntConsumer<N> consumer, int root) {
+        int depth = 0;
+
+        discover(root);
+        stack[0] = root;
+        stack[1] = neighbors.firstNeighbor(root);
+
+        while (depth >= 0) {
+            int node = stack[2 * depth];
+            int cursor = stack[2 * depth + 1];
+
+            if (cursor == neighbors.endNeighbor(node)) {
+                time++;
+                colors[node] = BLACK;
+                finishTimes[node] = time;
+                consumer.accept(neighbors.nodeAt(node), time);
+                depth--;
+                continue;
+            }
+
+            int neighbor = neighbors.neighbor(cursor);
+            stack[2 * depth + 1] = cursor + 1;
+
+            if (colors[neighbor] == WHITE) {
+                predecessors[neighbor] = node;
+                discover(neighbor);
+                depth++;
+
+                if (2 * depth + 1 >= stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+
+                stack[2 * depth] = neighbor;
+                stack[2 * depth + 1] = neighbors.firstNeighbor(neighbor);
+            } else if (colors[neighbor] == GRAY) {
+                cyclic = true;
+            }
+        }
+    }
+
+    /**
+     * Discovers the node with the given index, i.e., colors it gray and sets its discovery time.
+     *
+     * @param index the index of the node.
+     */
+    private void discover(int index) {
+        time++;
+        colors[index] = GRAY;
+        discoveryTimes[index] = time;
+    }
+
+    /**
+     * Returns the index of the given node.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the node.
+     * @throws IllegalArgumentException if the given node was not part of the graph in the last traversal.
+     * @throws IllegalStateException    if the graph has not been traversed yet.
+     */
+    private int indexOf(N node) {
+        if (neighbors == null) {
+            throw new IllegalStateException("The graph has not been traversed yet");
+        }
+
+        return neighbors.indexOf(node);
+    }
+}
@@ -0,0 +1,248 @@
+package p3.solver;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of the items {@code [0, capacity - 1]}, each associated with an {@code int} key.
+ * <p>
+ * In addition to the heap array, the heap stores the position of every item within it. This allows to check whether
+ * an item is contained and to decrease its key in logarithmic time without a separate lookup structure. Items with
+ * equal keys are ordered by their index, so the order of extraction is deterministic.
+ */
+final class IndexedMinHeap {
+
+    /**
+     * The items in heap order.
+     */
+    private final int[] heap;
+
+    /**
+     * The position of each item in {@link #heap}, or {@code -1} if the item is not contained.
+     */
+    private final int[] positions;
+
+    /**
+     * The current key of each item.
+     */
+    private final int[] keys;
+
+    /**
+     * The number of items in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Creates a new, empty heap for the items {@code [0, capacity - 1]}.
+     *
+     * @param capacity the number of distinct items.
+     */
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return {@code true} if the heap contains no items, {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of items in the heap.
+     *
+     * @return the number of items in the heap.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the given item is in the heap.
+     *
+     * @param item the item to check.
+     * @return {@code true} if the item is in the heap, {@code false} otherwise.
+     */
+    boolean contains(int item) {
+        return positions[item] >= 0;
+    }
+
+    /**
+     * Returns the key of the given item. The result is only meaningful if the item is or was in the heap.
+     *
+     * @param item the item to get the key of.
+     * @return the key of the item.
+     */
+    int key(int item) {
+        return keys[item];
+    }
+
+    /**
+     * Inserts the given item with the given key.
+     *
+     * @param item the item to insert, which must not be in the heap.
+     * @param key  the key of the item.
+     */
+    void insert(int item, int key) {
+        keys[item] = key;
+        heap[size] = item;
+        positions[item] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Decreases the key of the given item to the given value.
+     *
+     * @param item the item to update, which must be in the heap.
+     * @param key  the new key of the item, which must not be greater than the current one.
+     */
+    void decreaseKey(int item, int key) {
+        keys[item] = key;
+        siftUp(positions[item]);
+    }
+
+    /**
+     * Inserts the given item with the given key if it is not in the heap, or decreases its key if the given key is
+     * smaller than its current one.
+     *
+     * @param item the item to insert or update.
+     * @param key  the new key of the item.
+     * @return {@code true} if the heap was changed, {@code false} otherwise.
+     */
+    boolean insertOrDecrease(int item, int key) {
+        if (!contains(item)) {
+            insert(item, key);
+            return true;
+        }
+
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the key of the item with the smallest key without removing it.
+     *
+     * @return the smallest key in the heap.
+     * @throws NoSuchElementException if the heap is empty.
+     */
+    int peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty");
+        }
+
+        return keys[heap[0]];
+    }
+
+    /**
+     * Removes the item with the smallest key from the heap and returns it.
+     *
+     * @return the item with the smallest key.
+     * @throws NoSuchElementException if the heap is empty.
+     */
+    int extractMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty");
+        }
+
+        int min = heap[0];
+        positions[min] = -1;
+        size--;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return min;
+    }
+
+    /**
+     * Removes all items from the heap.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+
+        size = 0;
+    }
+
+    /**
+     * Moves the item at the given position up until its parent is not greater than it.
+     *
+     * @param position the position of the item to move.
+     */
+    private void siftUp(int position) {
+        int item = heap[position];
+
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+
+            if (!less(item, parent)) {
+                break;
+            }
+
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+
+        heap[position] = item;
+        positions[item] = position;
+    }
+
+    /**
+     * Moves the item at the given position down until none of its children is less than it.
+     *
+     * @param position the position of the item to move.
+     */
+    private void siftDown(int position) {
+        int item = heap[position];
+
+        while (true) {
+            int childPosition = 2 * position + 1;
+
+            if (childPosition >= size) {
+                break;
+            }
+            if (childPosition + 1 < size && less(heap[childPosition + 1], heap[childPosition])) {
+                childPosition++;
+            }
+
+            int child = heap[childPosition];
+
+            if (!less(child, item)) {
+                break;
+            }
+
+            heap[position] = child;
+            positions[child] = position;
+            position = childPosition;
+        }
+
+        heap[position] = item;
+        positions[item] = position;
+    }
+
+    /**
+     * Compares two items by their key and, for equal keys, by their index.
+     *
+     * @param a the first item.
+     * @param b the second item.
+     * @return {@code true} if {@code a} is ordered before {@code b}, {@code false} otherwise.
+     */
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+}
@@ -0,0 +1,129 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A base class for {@link PathCalculator} implementations that work on an {@link IndexedGraph} instead of the
+ * {@link Graph} itself.
+ * <p>
+ * It provides the snapshot of the graph and the reconstruction of a path from an array of predecessor indices or from
+ * the final distances.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+abstract class IndexedPathCalculator<N> implements PathCalculator<N> {
+
+    /**
+     * The graph to calculate paths in.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * The last snapshot of {@link #graph}, or {@code null} if none has been created yet.
+     */
+    private IndexedGraph<N> snapshot;
+
+    /**
+     * The modification count of {@link #graph} at the time {@link #snapshot} was created.
+     */
+    private long snapshotModificationCount;
+
+    /**
+     * Creates a new {@link IndexedPathCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate paths in.
+     */
+    protected IndexedPathCalculator(Graph<N> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Returns an {@link IndexedGraph} that reflects the current state of {@link #graph}.
+     * <p>
+     * The snapshot is reused as long as the {@link Graph#getModificationCount() modification count} of the graph does
+     * not change, see {@link Graph#isUnmodifiedSince(long)}.
+     *
+     * @return a snapshot of the graph.
+     */
+    protected synchronized IndexedGraph<N> indexedGraph() {
+        if (snapshot == null || !graph.isUnmodifiedSince(snapshotModificationCount)) {
+            // Read the count before the snapshot, so that a concurrent modification invalidates it
+            snapshotModificationCount = graph.getModificationCount();
+            snapshot = IndexedGraph.of(graph);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Reconstructs the path from the node with index {@code start} to the node with index {@code end} by following the
+     * given predecessors backwards from {@code end}.
+     *
+     * @param indexedGraph the graph the indices belong to.
+     * @param predecessors the index of the predecessor of each node on its path, or {@code -1} if there is none.
+     * @param start        the index of the start node of the path.
+     * @param end          the index of the end node of the path.
+     * @param <N>          the type of the nodes in the graph.
+     * @return a list of nodes representing the path from the start node to the end node, or an empty list if the end
+     * node is not reachable.
+     */
+    protected static <N> List<N> reconstructPath(IndexedGraph<N> indexedGraph, int[] predecessors, int start, int end) {
+        LinkedList<N> path = new LinkedList<>();
+        int current = end;
+
+        while (current != start) {
+            if (current < 0) {
+                return new LinkedList<>();
+            }
+
+            path.addFirst(indexedGraph.nodeAt(current));
+            current = predecessors[current];
+        }
+
+        path.addFirst(indexedGraph.nodeAt(start));
+        return path;
+    }
+
+    /**
+     * Calculates a predecessor for each node that is reachable from the start node along edges whose weight equals the
+     * difference of the distances of their end nodes. Following the predecessors from a node with a final distance
+     * yields a shortest path to it.
+     *
+     * @param indexedGraph the graph the distances were calculated in.
+     * @param distances    the distance to each node.
+     * @param start        the index of the start node.
+     * @return the index of the predecessor of each node, or {@code -1} if it has none.
+     */
+    protected static int[] tightPredecessors(IndexedGraph<?> indexedGraph, int[] distances, int start) {
+        int[] predecessors = new int[indexedGraph.size()];
+        int[] stack = new int[indexedGraph.size()];
+        int stackSize = 0;
+
+        Arrays.fill(predecessors, -1);
+        // The start node is its own predecessor while searching, so that it is not visited again
+        predecessors[start] = start;
+        stack[stackSize++] = start;
+
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+
+            for (int slot = indexedGraph.firstEdge(node); slot < indexedGraph.endEdge(node); slot++) {
+                int to = indexedGraph.target(slot);
+
+                if (predecessors[to] < 0 && distances[to] != Integer.MAX_VALUE
+                    && distances[node] + indexedGraph.weight(slot) == distances[to]) {
+                    predecessors[to] = node;
+                    stack[stackSize++] = to;
+                }
+            }
+        }
+
+        predecessors[start] = -1;
+        return predecessors;
+    }
+}
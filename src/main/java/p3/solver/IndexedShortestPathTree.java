@@ -0,0 +1,69 @@
+package p3.solver;
+
+import p3.graph.IndexedGraph;
+
+import java.util.List;
+
+/**
+ * A {@link ShortestPathTree} that stores the distance and the predecessor of each node in arrays indexed like an
+ * {@link IndexedGraph}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+final class IndexedShortestPathTree<N> implements ShortestPathTree<N> {
+
+    /**
+     * The graph the indices belong to.
+     */
+    private final IndexedGraph<N> indexedGraph;
+
+    /**
+     * The index of the start node of all paths.
+     */
+    private final int start;
+
+    /**
+     * The distance from the start node to each node.
+     */
+    private final int[] distances;
+
+    /**
+     * The index of the predecessor of each node along its shortest path, or {@code -1} if it has none.
+     */
+    private final int[] predecessors;
+
+    /**
+     * Creates a new {@link IndexedShortestPathTree} that takes ownership of the given arrays.
+     *
+     * @param indexedGraph the graph the indices belong to.
+     * @param start        the index of the start node of all paths.
+     * @param distances    the distance to each node, or {@link Integer#MAX_VALUE} for unreachable nodes.
+     * @param predecessors the index of the predecessor of each node, or {@code -1} if it has none.
+     */
+    IndexedShortestPathTree(IndexedGraph<N> indexedGraph, int start, int[] distances, int[] predecessors) {
+        this.indexedGraph = indexedGraph;
+        this.start = start;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    @Override
+    public N getStart() {
+        return indexedGraph.nodeAt(start);
+    }
+
+    @Override
+    public boolean isReachable(N node) {
+        return distanceTo(node) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int distanceTo(N end) {
+        return distances[indexedGraph.indexOf(end)];
+    }
+
+    @Override
+    public List<N> pathTo(N end) {
+        return IndexedPathCalculator.reconstructPath(indexedGraph, predecessors, start, indexedGraph.indexOf(end));
+    }
+}
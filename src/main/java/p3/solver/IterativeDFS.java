@@ -0,0 +1,137 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A {@link DFS} that visits the nodes with an explicit stack instead of recursion, so that the depth of the traversal
+ * is not limited by the size of the call stack.
+ * <p>
+ * Each frame of the stack consists of the index of a node and a cursor to the next neighbor of that node that has to
+ * be examined. Both are stored in a single {@code int} array, so pushing and popping a frame does not allocate.
+ * <p>
+ * The neighbors of all nodes are stored in a {@link NeighborIndex} in the order in which
+ * {@link Graph#getAdjacentNodes(Object)} returns them, so the discovery times, finish times, predecessors and the order
+ * of the calls of the consumer are the same as those of {@link DFS}. The neighbors are collected when the graph is
+ * traversed for the first time and reused until the {@link Graph#getModificationCount() modification count} of the
+ * graph changes.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class IterativeDFS<N> extends DFS<N> {
+
+    /**
+     * Factory for creating new instances of {@link IterativeDFS}.
+     */
+    public static final GraphTraverser.Factory FACTORY = IterativeDFS::new;
+
+    /**
+     * The neighbors of all nodes, or {@code null} if they have not been collected yet.
+     */
+    private NeighborIndex<N> neighbors;
+
+    /**
+     * The frames of the stack. The frame at depth {@code d} consists of the index of the node at {@code 2 * d} and the
+     * position of its next neighbor in {@link #neighbors} at {@code 2 * d + 1}.
+     */
+    private int[] stack = new int[32];
+
+    /**
+     * Creates a new {@link IterativeDFS} for the given graph.
+     *
+     * @param graph the graph to traverse.
+     */
+    public IterativeDFS(Graph<N> graph) {
+        super(graph);
+    }
+
+    @Override
+    protected void init() {
+        super.init();
+
+        if (neighbors == null || !neighbors.isCurrent(graph)) {
+            neighbors = NeighborIndex.of(graph);
+        }
+    }
+
+    /**
+     * Visits a new node in the graph and all nodes that are reachable from it and have not been discovered yet.
+     * <p>
+     * The nodes are discovered, finished and passed to the consumer in the same order as by {@link DFS}, but the
+     * recursion is replaced by an explicit stack.
+     *
+     * @param consumer Function that accepts the node and its finish time.
+     * @param current  Node that is processed by this method
+     */
+    @Override
+    protected void visit(ObjIntConsumer<N> consumer, N current) {
+        int depth = 0;
+        int root = neighbors.indexOf(current);
+
+        discover(root);
+        stack[0] = root;
+        stack[1] = neighbors.firstNeighbor(root);
+
+        while (depth >= 0) {
+            int node = stack[2 * depth];
+            int cursor = stack[2 * depth + 1];
+
+            if (cursor == neighbors.endNeighbor(node)) {
+                finish(consumer, node);
+                depth--;
+                continue;
+            }
+
+            int neighbor = neighbors.neighbor(cursor);
+            Color color = colors.get(neighbors.nodeAt(neighbor));
+            stack[2 * depth + 1] = cursor + 1;
+
+            if (color == Color.WHITE) {
+                predecessors.put(neighbors.nodeAt(neighbor), neighbors.nodeAt(node));
+                discover(neighbor);
+                depth++;
+
+                if (2 * depth + 1 >= stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+
+                stack[2 * depth] = neighbor;
+                stack[2 * depth + 1] = neighbors.firstNeighbor(neighbor);
+            } else if (color == Color.GRAY) {
+                cyclic = true;
+            }
+        }
+    }
+
+    /**
+     * Discovers the node with the given index, i.e., colors it gray and sets its discovery time.
+     *
+     * @param index the index of the node.
+     */
+    private void discover(int index) {
+        time++;
+
+        discoveryTimes.put(neighbors.nodeAt(index), time);
+        colors.put(neighbors.nodeAt(index), Color.GRAY);
+    }
+
+    /**
+     * Finishes the node with the given index, i.e., colors it black, sets its finish time and passes it to the
+     * consumer.
+     *
+     * @param consumer Function that accepts the node and its finish time.
+     * @param index    the index of the node.
+     */
+    private void finish(ObjIntConsumer<N> consumer, int index) {
+        N node = neighbors.nodeAt(index);
+
+        time++;
+
+        colors.put(node, Color.BLACK);
+        finishTimes.put(node, time);
+
+        consumer.accept(node, time);
+    }
+}
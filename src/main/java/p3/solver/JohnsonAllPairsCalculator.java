@@ -0,0 +1,228 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An implementation of the {@link AllPairsCalculator} interface that uses Johnson's algorithm to calculate the
+ * distances between all pairs of nodes in a {@link Graph} that may contain edges with negative weights.
+ * <p>
+ * The algorithm first runs a single {@link BellmanFordPathCalculator} as if from an additional node with an edge of
+ * weight {@code 0} to every node. The resulting distance {@code h(v)} of each node is a potential that makes every
+ * reweighted edge {@code w(u, v) + h(u) - h(v)} non-negative without changing which paths are shortest. Dijkstra's
+ * algorithm is then run for every node on the reweighted graph, and the potentials are subtracted again from the
+ * distances it calculates. If the graph has no negative weights, the potentials are all {@code 0} and Bellman-Ford is
+ * skipped.
+ * <p>
+ * The Dijkstra runs are independent of each other and are distributed among the threads of a {@link ForkJoinPool}.
+ * Each run follows the edges backwards from its end node, so it calculates one column of the distance matrix together
+ * with the next hop of every node towards the end node. The next hops of a column form a tree, so following them always
+ * leads to the end node.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class JohnsonAllPairsCalculator<N> implements AllPairsCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link JohnsonAllPairsCalculator} that calculate the next hops and use the
+     * common pool.
+     */
+    public static final AllPairsCalculator.Factory FACTORY = JohnsonAllPairsCalculator::new;
+
+    /**
+     * The graph to calculate the distances in.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * Whether to calculate the next hops of the shortest paths.
+     */
+    private final boolean paths;
+
+    /**
+     * The pool to run the Dijkstra runs in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link JohnsonAllPairsCalculator} for the given graph that calculates the next hops and uses the
+     * common pool.
+     *
+     * @param graph the graph to calculate the distances in.
+     */
+    public JohnsonAllPairsCalculator(Graph<N> graph) {
+        this(graph, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link JohnsonAllPairsCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the distances in.
+     * @param paths whether to calculate the next hops of the shortest paths.
+     * @param pool  the pool to run the Dijkstra runs in.
+     */
+    public JohnsonAllPairsCalculator(Graph<N> graph, boolean paths, ForkJoinPool pool) {
+        this.graph = graph;
+        this.paths = paths;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link JohnsonAllPairsCalculator}.
+     *
+     * @param paths whether to calculate the next hops of the shortest paths.
+     * @param pool  the pool to run the Dijkstra runs in.
+     * @return a factory for creating new instances of {@link JohnsonAllPairsCalculator}.
+     */
+    public static AllPairsCalculator.Factory factory(boolean paths, ForkJoinPool pool) {
+        return new AllPairsCalculator.Factory() {
+            @Override
+            public <N> AllPairsCalculator<N> create(Graph<N> graph) {
+                return new JohnsonAllPairsCalculator<>(graph, paths, pool);
+            }
+        };
+    }
+
+    @Override
+    public DistanceMatrix<N> calculateAllPairs() {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        int size = indexedGraph.size();
+        int[] potentials = indexedGraph.hasNegativeWeights()
+            ? new PotentialCalculator<>(graph).calculatePotentials(indexedGraph)
+            : new int[size];
+        int[] reducedWeights = reduceIncomingWeights(indexedGraph, potentials);
+
+        int[] distances = new int[size * size];
+        int[] nextHops = paths ? new int[size * size] : null;
+        int threshold = Math.max(1, size / (4 * pool.getParallelism()));
+
+        ParallelRange.forEach(pool, size, threshold, (start, end) -> {
+            int[] columnDistances = new int[size];
+            int[] columnHops = new int[size];
+            IndexedMinHeap queue = new IndexedMinHeap(size);
+
+            for (int target = start; target < end; target++) {
+                dijkstraTo(indexedGraph, reducedWeights, target, columnDistances, columnHops, queue);
+
+                for (int source = 0; source < size; source++) {
+                    int reduced = columnDistances[source];
+                    int position = source * size + target;
+
+                    distances[position] = reduced == Integer.MAX_VALUE
+                        ? Integer.MAX_VALUE
+                        : reduced - potentials[source] + potentials[target];
+
+                    if (nextHops != null) {
+                        nextHops[position] = reduced == Integer.MAX_VALUE ? -1 : columnHops[source];
+                    }
+                }
+            }
+        });
+
+        return new DistanceMatrix<>(indexedGraph, distances, nextHops);
+    }
+
+    /**
+     * Calculates the reweighted weight {@code w(u, v) + h(u) - h(v)} of each ingoing edge of the given graph.
+     *
+     * @param indexedGraph the graph to reweight.
+     * @param potentials   the potential {@code h} of each node.
+     * @return the reweighted weight of each ingoing edge, indexed by its slot.
+     */
+    private static int[] reduceIncomingWeights(IndexedGraph<?> indexedGraph, int[] potentials) {
+        int[] reducedWeights = new int[indexedGraph.edgeCount()];
+
+        for (int node = 0; node < indexedGraph.size(); node++) {
+            for (int slot = indexedGraph.firstIncoming(node); slot < indexedGraph.endIncoming(node); slot++) {
+                reducedWeights[slot] = indexedGraph.incomingWeight(slot) + potentials[indexedGraph.source(slot)]
+                    - potentials[node];
+            }
+        }
+
+        return reducedWeights;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm backwards from the given end node on the reweighted graph.
+     *
+     * @param indexedGraph   the graph to calculate the distances in.
+     * @param reducedWeights the reweighted weight of each ingoing edge.
+     * @param target         the index of the end node.
+     * @param distances      the array to store the reweighted distance from each node to the end node in.
+     * @param nextHops       the array to store the next node on the path from each node to the end node in.
+     * @param queue          an empty queue to use for the run, which is empty again afterwards.
+     */
+    private static void dijkstraTo(IndexedGraph<?> indexedGraph, int[] reducedWeights, int target, int[] distances,
+                                   int[] nextHops, IndexedMinHeap queue) {
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[target] = 0;
+        nextHops[target] = target;
+        queue.insert(target, 0);
+
+        while (!queue.isEmpty()) {
+            int node = queue.extractMin();
+
+            for (int slot = indexedGraph.firstIncoming(node); slot < indexedGraph.endIncoming(node); slot++) {
+                int source = indexedGraph.source(slot);
+                long distance = (long) distances[node] + reducedWeights[slot];
+
+                if (distance < distances[source]) {
+                    distances[source] = (int) distance;
+                    nextHops[source] = node;
+                    queue.insertOrDecrease(source, (int) distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@link BellmanFordPathCalculator} that starts with a distance of {@code 0} at every node, which has the same
+     * effect as starting at an additional node with an edge of weight {@code 0} to every node.
+     *
+     * @param <N> the type of the nodes in the graph.
+     */
+    private static final class PotentialCalculator<N> extends BellmanFordPathCalculator<N> {
+
+        /**
+         * Creates a new {@link PotentialCalculator} for the given graph that stops as soon as the distances converge.
+         *
+         * @param graph the graph to calculate the potentials for.
+         */
+        private PotentialCalculator(Graph<N> graph) {
+            super(graph, true);
+        }
+
+        /**
+         * Calculates the potential of each node.
+         *
+         * @param indexedGraph the snapshot of the graph that defines the indices of the nodes.
+         * @return the potential of each node, indexed like the snapshot.
+         * @throws CycleException if the graph contains a negative cycle.
+         */
+        private int[] calculatePotentials(IndexedGraph<N> indexedGraph) {
+            initSSSP(indexedGraph.nodeAt(0));
+            processGraph();
+
+            if (hasNegativeCycle()) {
+                throw new CycleException("A negative cycle was detected");
+            }
+
+            int[] potentials = new int[indexedGraph.size()];
+
+            for (int i = 0; i < potentials.length; i++) {
+                potentials[i] = distances.get(indexedGraph.nodeAt(i));
+            }
+
+            return potentials;
+        }
+
+        @Override
+        protected void initSSSP(N start) {
+            super.initSSSP(start);
+            distances.replaceAll((node, distance) -> 0);
+        }
+    }
+}
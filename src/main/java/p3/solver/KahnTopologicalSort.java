@@ -0,0 +1,174 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An implementation of the topological sort algorithm that uses Kahn's algorithm.
+ * <p>
+ * The algorithm counts the ingoing edges of each node and starts with the nodes that have none. Removing these nodes
+ * decrements the counts of their neighbors, and the neighbors whose count drops to {@code 0} form the next level. Each
+ * level is an antichain, i.e., there is no path between two nodes of the same level, so the nodes of a level can be
+ * processed in parallel once all previous levels are done. The levels are returned by {@link #sortLevels()}, and their
+ * concatenation by {@link #sort()}.
+ * <p>
+ * If a level is empty before all nodes have been sorted, the remaining nodes are part of or reachable from a cycle, and
+ * the sort fails immediately without examining them. The ingoing edges of large levels are decremented in parallel on
+ * a {@link ForkJoinPool}. The nodes of each level are ordered by the iteration order of {@link Graph#getNodes()}, so the
+ * result does not depend on the number of threads.
+ *
+ * @param <N> the type of the nodes in the graph.
+ * @see TopologicalSort
+ */
+public class KahnTopologicalSort<N> {
+
+    /**
+     * The number of nodes in a level below which their edges are not processed in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * The graph to sort.
+     */
+    private final Graph<N> graph;
+
+    /**
+     * The pool to process large levels in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link KahnTopologicalSort} for the given graph that uses the common pool.
+     *
+     * @param graph the graph to sort.
+     */
+    public KahnTopologicalSort(Graph<N> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link KahnTopologicalSort} for the given graph that uses the given pool.
+     *
+     * @param graph the graph to sort.
+     * @param pool  the pool to process large levels in.
+     */
+    public KahnTopologicalSort(Graph<N> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the graph given in the constructor topologically.
+     * If the graph contains a cycle, a {@link CycleException} is thrown.
+     *
+     * @return a list of all nodes in the graph sorted topologically.
+     * @throws CycleException if the graph contains a cycle.
+     */
+    public List<N> sort() {
+        List<N> sortedNodes = new ArrayList<>();
+
+        for (List<N> level : sortLevels()) {
+            sortedNodes.addAll(level);
+        }
+
+        return sortedNodes;
+    }
+
+    /**
+     * Sorts the graph given in the constructor topologically into levels.
+     * <p>
+     * The first level contains all nodes without ingoing edges, and every other node is in the level after the last
+     * level of its predecessors. If the graph contains a cycle, a {@link CycleException} is thrown.
+     *
+     * @return a list of the levels, each containing the nodes of that level.
+     * @throws CycleException if the graph contains a cycle.
+     */
+    public List<List<N>> sortLevels() {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        int size = indexedGraph.size();
+        AtomicIntegerArray inDegrees = new AtomicIntegerArray(size);
+
+        for (int i = 0; i < size; i++) {
+            for (int slot = indexedGraph.firstEdge(i); slot < indexedGraph.endEdge(i); slot++) {
+                inDegrees.getAndIncrement(indexedGraph.target(slot));
+            }
+        }
+
+        int[] frontier = new int[size];
+        int[] next = new int[size];
+        int frontierSize = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (inDegrees.get(i) == 0) {
+                frontier[frontierSize++] = i;
+            }
+        }
+
+        List<List<N>> levels = new ArrayList<>();
+        int sorted = 0;
+
+        while (frontierSize > 0) {
+            List<N> level = new ArrayList<>(frontierSize);
+
+            for (int i = 0; i < frontierSize; i++) {
+                level.add(indexedGraph.nodeAt(frontier[i]));
+            }
+
+            levels.add(level);
+            sorted += frontierSize;
+
+            int nextSize = removeLevel(indexedGraph, inDegrees, frontier, frontierSize, next);
+            Arrays.sort(next, 0, nextSize);
+
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+        }
+
+        if (sorted < size) {
+            throw new CycleException("Cannot perform topological sort on cyclic graph.");
+        }
+
+        return levels;
+    }
+
+    /**
+     * Decrements the in-degrees of the neighbors of the nodes of the given level and collects the neighbors whose
+     * in-degree drops to {@code 0}. Large levels are processed in parallel.
+     *
+     * @param indexedGraph the graph to sort.
+     * @param inDegrees    the number of ingoing edges of each node from nodes that have not been removed yet.
+     * @param frontier     the indices of the nodes of the level.
+     * @param frontierSize the number of nodes in the level.
+     * @param next         the array to store the indices of the nodes of the next level in, in no particular order.
+     * @return the number of nodes in the next level.
+     */
+    private int removeLevel(IndexedGraph<N> indexedGraph, AtomicIntegerArray inDegrees, int[] frontier,
+                            int frontierSize, int[] next) {
+        AtomicInteger nextSize = new AtomicInteger();
+
+        ParallelRange.forEach(pool, frontierSize, PARALLEL_THRESHOLD, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                int node = frontier[i];
+
+                for (int slot = indexedGraph.firstEdge(node); slot < indexedGraph.endEdge(node); slot++) {
+                    int target = indexedGraph.target(slot);
+
+                    if (inDegrees.decrementAndGet(target) == 0) {
+                        next[nextSize.getAndIncrement()] = target;
+                    }
+                }
+            }
+        });
+
+        return nextSize.get();
+    }
+}
@@ -0,0 +1,184 @@
+package p3.solver;
+
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An implementation of the {@link MSTCalculator} interface that uses the Kruskal algorithm to calculate the minimum
+ * spanning tree of a {@link Graph}.
+ * <p>
+ * The edges are considered in the order of ascending weight and added to the result if they connect two different
+ * components, which are tracked with a {@link DisjointSet}. The direction of the edges is ignored. To sort the edges
+ * without boxing, each edge is packed into a {@code long} with its weight in the upper and its slot in the
+ * {@link IndexedGraph} in the lower 32 bits, so that sorting the packed values orders the edges by weight.
+ * <p>
+ * If the graph is not connected, the result is a minimum spanning forest, i.e., it contains a minimum spanning tree for
+ * each connected component. Since every component is covered, the root node does not influence which edges are
+ * selected. Like in {@link PrimMSTCalculator}, the selected edges are oriented away from the root, so that both return
+ * the same graph if the minimum spanning tree is unique; the trees of the other components are oriented away from an
+ * arbitrary node.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class KruskalMSTCalculator<N> implements MSTCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link KruskalMSTCalculator}.
+     */
+    public static final MSTCalculator.Factory FACTORY = KruskalMSTCalculator::new;
+
+    /**
+     * The graph to calculate the MST for.
+     */
+    protected final Graph<N> graph;
+
+    /**
+     * Creates a new {@link KruskalMSTCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the MST for.
+     */
+    public KruskalMSTCalculator(Graph<N> graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Graph<N> calculateMST(N root) {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        indexedGraph.indexOf(root);
+
+        int size = indexedGraph.size();
+        int edgeCount = indexedGraph.edgeCount();
+        int[] sources = indexedGraph.edgeSources();
+        long[] sortedEdges = new long[edgeCount];
+
+        for (int slot = 0; slot < edgeCount; slot++) {
+            sortedEdges[slot] = ((long) indexedGraph.weight(slot) << 32) | slot;
+        }
+
+        Arrays.sort(sortedEdges);
+
+        DisjointSet components = new DisjointSet(size);
+        int[] selected = new int[Math.max(0, size - 1)];
+        int selectedCount = 0;
+
+        for (int i = 0; i < edgeCount && selectedCount < size - 1; i++) {
+            int slot = (int) sortedEdges[i];
+
+            if (components.union(sources[slot], indexedGraph.target(slot))) {
+                selected[selectedCount++] = slot;
+            }
+        }
+
+        return Graph.of(graph.getNodes(), orientedEdges(indexedGraph, indexedGraph.indexOf(root), selected, selectedCount));
+    }
+
+    /**
+     * Creates the edges of a spanning forest from the given slots, oriented away from the given root. The trees that do
+     * not contain the root are oriented away from their node with the smallest index.
+     * <p>
+     * A slot whose edge points towards the root is replaced with the slot of the reverse edge. If the graph does not
+     * contain the reverse edge, the edge keeps its original direction, so that the result is always a subgraph of the
+     * graph.
+     *
+     * @param indexedGraph the graph the slots belong to.
+     * @param root         the index of the root node.
+     * @param slots        the slots of the edges of the forest.
+     * @param count        the number of used entries in {@code slots}.
+     * @param <N>          the type of the nodes in the graph.
+     * @return the oriented edges of the forest.
+     */
+    static <N> Set<Edge<N>> orientedEdges(IndexedGraph<N> indexedGraph, int root, int[] slots, int count) {
+        int size = indexedGraph.size();
+        int[] sources = indexedGraph.edgeSources();
+        int[] offsets = new int[size + 1];
+
+        for (int i = 0; i < count; i++) {
+            offsets[sources[slots[i]] + 1]++;
+            offsets[indexedGraph.target(slots[i]) + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        // Each tree edge is stored at both of its end nodes, together with the slot it was selected with
+        int[] next = Arrays.copyOf(offsets, size);
+        int[] neighbors = new int[2 * count];
+        int[] treeSlots = new int[2 * count];
+
+        for (int i = 0; i < count; i++) {
+            int from = sources[slots[i]];
+            int to = indexedGraph.target(slots[i]);
+
+            neighbors[next[from]] = to;
+            treeSlots[next[from]++] = slots[i];
+            neighbors[next[to]] = from;
+            treeSlots[next[to]++] = slots[i];
+        }
+
+        boolean[] visited = new boolean[size];
+        int[] queue = new int[size];
+        Set<Edge<N>> edges = new HashSet<>();
+
+        for (int i = -1; i < size; i++) {
+            int start = i < 0 ? root : i;
+
+            if (visited[start]) {
+                continue;
+            }
+
+            visited[start] = true;
+            queue[0] = start;
+
+            for (int head = 0, tail = 1; head < tail; head++) {
+                int node = queue[head];
+
+                for (int position = offsets[node]; position < offsets[node + 1]; position++) {
+                    int neighbor = neighbors[position];
+
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        queue[tail++] = neighbor;
+                        edges.add(orientedEdge(indexedGraph, node, neighbor, treeSlots[position]));
+                    }
+                }
+            }
+        }
+
+        return edges;
+    }
+
+    /**
+     * Creates the edge of the given slot, oriented from {@code from} to {@code to} if possible.
+     * <p>
+     * If the slot already starts at {@code from}, its edge is used as is. Otherwise, an edge from {@code from} to
+     * {@code to} is only used instead if it has the same weight as the selected edge, so that the total weight of the
+     * tree does not change. If there is no such edge, the selected edge is kept in its original direction.
+     *
+     * @param indexedGraph the graph to create the edge from.
+     * @param from         the index of the node the edge should start at.
+     * @param to           the index of the node the edge should end at.
+     * @param slot         the slot of the selected edge between both nodes in any direction.
+     * @param <N>          the type of the nodes in the graph.
+     * @return the edge.
+     */
+    private static <N> Edge<N> orientedEdge(IndexedGraph<N> indexedGraph, int from, int to, int slot) {
+        int weight = indexedGraph.weight(slot);
+
+        if (slot >= indexedGraph.firstEdge(from) && slot < indexedGraph.endEdge(from)) {
+            return Edge.of(indexedGraph.nodeAt(from), indexedGraph.nodeAt(to), weight);
+        }
+
+        for (int candidate = indexedGraph.firstEdge(from); candidate < indexedGraph.endEdge(from); candidate++) {
+            if (indexedGraph.target(candidate) == to && indexedGraph.weight(candidate) == weight) {
+                return Edge.of(indexedGraph.nodeAt(from), indexedGraph.nodeAt(to), weight);
+            }
+        }
+
+        return Edge.of(indexedGraph.nodeAt(to), indexedGraph.nodeAt(from), weight);
+    }
+}
@@ -0,0 +1,734 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Precomputed distances from and to a small set of landmark nodes, which provide lower bounds for the distance between
+ * any two nodes of a {@link Graph} (ALT: A*, landmarks and the triangle inequality).
+ * <p>
+ * For a landmark {@code L} and nodes {@code v} and {@code t}, the triangle inequality yields
+ * {@code d(v, t) >= d(L, t) - d(L, v)} and {@code d(v, t) >= d(v, L) - d(t, L)}. The maximum of these bounds over all
+ * landmarks is an admissible and consistent heuristic for {@link AStarPathCalculator}, see {@link #heuristic()}.
+ * <p>
+ * The distances are stored in two flat {@code int} arrays, one for the distances from and one for the distances to the
+ * landmarks. The entries of a node are stored next to each other, so evaluating the heuristic for a node reads a
+ * single contiguous block. Unreachable nodes have the distance {@link Integer#MAX_VALUE}.
+ * <p>
+ * The landmarks can be given explicitly or selected with a {@link Selection} strategy. The distance arrays of different
+ * landmarks are calculated in parallel on a {@link ForkJoinPool}. They can be written to and read from a file with
+ * {@link #save(Path, NodeWriter)} and {@link #load(Path, NodeReader)}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public final class Landmarks<N> {
+
+    /**
+     * The value written at the start of persisted landmarks.
+     */
+    private static final int MAGIC = 0x50334c4d;
+
+    /**
+     * The version of the serialization format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The seed of the random numbers used by the selection strategies, so that the selection is reproducible.
+     */
+    private static final long SEED = 0x5EED;
+
+    /**
+     * The largest number of elements that is allocated before the elements are actually read, so that a corrupt length
+     * fails with an {@link IOException} at the end of the stream instead of exhausting the memory.
+     */
+    private static final int READ_CHUNK = 1 << 16;
+
+    /**
+     * The largest length of an array that can be allocated.
+     */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * The node with each index.
+     */
+    private final Object[] nodes;
+
+    /**
+     * A map from each node to its index. This map is the inverse of {@link #nodes}.
+     */
+    private final Map<N, Integer> indices;
+
+    /**
+     * The index of each landmark.
+     */
+    private final int[] landmarks;
+
+    /**
+     * The distance from each landmark to each node. The distance from landmark {@code l} to node {@code v} is stored
+     * at {@code v * landmarks.length + l}.
+     */
+    private final int[] fromLandmarks;
+
+    /**
+     * The distance from each node to each landmark, stored like {@link #fromLandmarks}.
+     */
+    private final int[] toLandmarks;
+
+    /**
+     * Creates new {@link Landmarks} from the given arrays.
+     *
+     * @param nodes         the node with each index.
+     * @param landmarks     the index of each landmark.
+     * @param fromLandmarks the distance from each landmark to each node.
+     * @param toLandmarks   the distance from each node to each landmark.
+     */
+    private Landmarks(Object[] nodes, int[] landmarks, int[] fromLandmarks, int[] toLandmarks) {
+        this.nodes = nodes;
+        this.indices = new HashMap<>();
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+
+        for (int i = 0; i < nodes.length; i++) {
+            indices.put(nodeAt(i), i);
+        }
+    }
+
+    /**
+     * Calculates the distance arrays for the given landmarks in parallel.
+     *
+     * @param graph     the graph to calculate the distances in.
+     * @param landmarks the landmarks.
+     * @param pool      the pool to calculate the distances in.
+     * @param <N>       the type of the nodes in the graph.
+     * @return the landmarks with their distance arrays.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or a landmark is not part of
+     *                                  the graph.
+     */
+    public static <N> Landmarks<N> of(Graph<N> graph, List<N> landmarks, ForkJoinPool pool) {
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+        int[] indices = new int[landmarks.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = indexedGraph.indexOf(landmarks.get(i));
+        }
+
+        Table table = new Table(indexedGraph, indices.length);
+        table.compute(indices, 0, indices.length, pool);
+
+        return table.toLandmarks();
+    }
+
+    /**
+     * Selects the given number of landmarks with the given strategy and calculates their distance arrays.
+     * <p>
+     * Since each selected landmark depends on the distances of the previous ones, the landmarks are selected one after
+     * another, but the two distance arrays of each landmark are calculated in parallel.
+     *
+     * @param graph     the graph to select the landmarks in.
+     * @param count     the number of landmarks to select. If the graph has fewer nodes, every node is a landmark.
+     * @param selection the selection strategy.
+     * @param pool      the pool to calculate the distances in.
+     * @param <N>       the type of the nodes in the graph.
+     * @return the selected landmarks with their distance arrays.
+     * @throws IllegalArgumentException if the graph contains an edge with a negative weight or {@code count} is
+     *                                  negative.
+     */
+    public static <N> Landmarks<N> select(Graph<N> graph, int count, Selection selection, ForkJoinPool pool) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of landmarks must not be negative: " + count);
+        }
+
+        IndexedGraph<N> indexedGraph = IndexedGraph.of(graph);
+        DijkstraPathCalculator.checkNonNegative(indexedGraph);
+
+        int size = indexedGraph.size();
+        int[] selected = new int[Math.min(count, size)];
+        boolean[] isLandmark = new boolean[size];
+        Table table = new Table(indexedGraph, selected.length);
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < selected.length; i++) {
+            int landmark = -1;
+
+            if (selection == Selection.AVOID && i > 0) {
+                landmark = table.avoid(random.nextInt(size), i, isLandmark);
+            }
+            if (landmark < 0) {
+                landmark = table.farthest(i == 0 ? random.nextInt(size) : -1, i, isLandmark);
+            }
+
+            selected[i] = landmark;
+            isLandmark[landmark] = true;
+            table.compute(selected, i, i + 1, pool);
+        }
+
+        return table.toLandmarks();
+    }
+
+    /**
+     * Reads landmarks that have been written with {@link #writeTo(DataOutput, NodeWriter)}.
+     *
+     * @param in     the stream to read from.
+     * @param reader the function that reads a single node.
+     * @param <N>    the type of the nodes in the graph.
+     * @return the landmarks read from the stream.
+     * @throws IOException if reading from the stream fails or the stream does not contain valid landmarks.
+     */
+    public static <N> Landmarks<N> readFrom(DataInput in, NodeReader<? extends N> reader) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("The stream does not contain landmarks");
+        }
+
+        int nodeCount = in.readInt();
+
+        checkRange(nodeCount, 0, MAX_ARRAY_LENGTH + 1, "node count");
+
+        List<Object> nodes = new ArrayList<>(Math.min(nodeCount, READ_CHUNK));
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(reader.read(in));
+        }
+
+        int landmarkCount = in.readInt();
+
+        checkRange(landmarkCount, 0, nodeCount + 1, "landmark count");
+        if ((long) nodeCount * landmarkCount > MAX_ARRAY_LENGTH) {
+            throw new IOException("Corrupt landmarks: %d landmarks for %d nodes".formatted(landmarkCount, nodeCount));
+        }
+
+        int[] landmarks = readInts(in, landmarkCount);
+        int[] fromLandmarks = readInts(in, nodeCount * landmarkCount);
+        int[] toLandmarks = readInts(in, nodeCount * landmarkCount);
+
+        for (int landmark : landmarks) {
+            checkRange(landmark, 0, nodeCount, "landmark index");
+        }
+        checkDistances(fromLandmarks);
+        checkDistances(toLandmarks);
+
+        return new Landmarks<>(nodes.toArray(), landmarks, fromLandmarks, toLandmarks);
+    }
+
+    /**
+     * Reads the given number of {@code int} values from the given stream. The array is enlarged while the values are
+     * read, so that a corrupt length does not allocate more memory than the stream actually contains.
+     *
+     * @param in     the stream to read from.
+     * @param length the number of values to read.
+     * @return the values read from the stream.
+     * @throws IOException if reading from the stream fails.
+     */
+    private static int[] readInts(DataInput in, int length) throws IOException {
+        int[] array = new int[Math.min(length, READ_CHUNK)];
+
+        for (int i = 0; i < length; i++) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, (int) Math.min(length, 2L * array.length));
+            }
+
+            array[i] = in.readInt();
+        }
+
+        return array;
+    }
+
+    /**
+     * Checks that the given deserialized distances are not negative. Unreachable nodes have the distance
+     * {@link Integer#MAX_VALUE}, which is allowed.
+     *
+     * @param distances the distances to check.
+     * @throws IOException if a distance is negative.
+     */
+    private static void checkDistances(int[] distances) throws IOException {
+        for (int distance : distances) {
+            if (distance < 0) {
+                throw new IOException("Corrupt landmarks: invalid distance %d".formatted(distance));
+            }
+        }
+    }
+
+    /**
+     * Checks that a deserialized value is in the range {@code [min, end)}.
+     *
+     * @param value the value to check.
+     * @param min   the smallest allowed value.
+     * @param end   the value after the largest allowed value.
+     * @param name  the name of the value for the error message.
+     * @throws IOException if the value is not in the range.
+     */
+    private static void checkRange(int value, int min, int end, String name) throws IOException {
+        if (value < min || value >= end) {
+            throw new IOException("Corrupt landmarks: invalid %s %d".formatted(name, value));
+        }
+    }
+
+    /**
+     * Reads landmarks from the given file.
+     *
+     * @param file   the file to read from.
+     * @param reader the function that reads a single node.
+     * @param <N>    the type of the nodes in the graph.
+     * @return the landmarks read from the file.
+     * @throws IOException if reading from the file fails or the file does not contain landmarks.
+     * @see #save(Path, NodeWriter)
+     */
+    public static <N> Landmarks<N> load(Path file, NodeReader<? extends N> reader) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return readFrom(in, reader);
+        }
+    }
+
+    /**
+     * Writes these landmarks to the given stream.
+     *
+     * @param out    the stream to write to.
+     * @param writer the function that writes a single node.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeTo(DataOutput out, NodeWriter<? super N> writer) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(nodes.length);
+
+        for (int i = 0; i < nodes.length; i++) {
+            writer.write(out, nodeAt(i));
+        }
+
+        out.writeInt(landmarks.length);
+
+        for (int landmark : landmarks) {
+            out.writeInt(landmark);
+        }
+        for (int distance : fromLandmarks) {
+            out.writeInt(distance);
+        }
+        for (int distance : toLandmarks) {
+            out.writeInt(distance);
+        }
+    }
+
+    /**
+     * Writes these landmarks to the given file, replacing its content.
+     *
+     * @param file   the file to write to.
+     * @param writer the function that writes a single node.
+     * @throws IOException if writing to the file fails.
+     * @see #load(Path, NodeReader)
+     */
+    public void save(Path file, NodeWriter<? super N> writer) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            writeTo(out, writer);
+        }
+    }
+
+    /**
+     * Returns the landmarks.
+     *
+     * @return the landmarks, in the order in which they were given or selected.
+     */
+    public List<N> getLandmarks() {
+        List<N> result = new ArrayList<>();
+
+        for (int landmark : landmarks) {
+            result.add(nodeAt(landmark));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a lower bound for the distance from the node {@code from} to the node {@code to}.
+     *
+     * @param from the node the path starts at.
+     * @param to   the node the path ends at.
+     * @return a lower bound for the distance, at least {@code 0}.
+     * @throws IllegalArgumentException if one of the nodes is not part of the graph.
+     */
+    public int lowerBound(N from, N to) {
+        return lowerBound(indexOf(from), indexOf(to));
+    }
+
+    /**
+     * Returns a heuristic for {@link AStarPathCalculator} that estimates the distance between two nodes with
+     * {@link #lowerBound(Object, Object)}.
+     *
+     * @return the landmark heuristic.
+     */
+    public ToIntBiFunction<N, N> heuristic() {
+        return this::lowerBound;
+    }
+
+    /**
+     * Returns a lower bound for the distance from the node with index {@code from} to the node with index {@code to}.
+     *
+     * @param from the index of the node the path starts at.
+     * @param to   the index of the node the path ends at.
+     * @return a lower bound for the distance, at least {@code 0}.
+     */
+    private int lowerBound(int from, int to) {
+        return lowerBound(fromLandmarks, toLandmarks, landmarks.length, landmarks.length, from, to);
+    }
+
+    /**
+     * Returns a lower bound for the distance between two nodes based on the first {@code used} landmarks of the given
+     * distance arrays.
+     *
+     * @param fromLandmarks the distance from each landmark to each node.
+     * @param toLandmarks   the distance from each node to each landmark.
+     * @param stride        the number of entries per node in the arrays.
+     * @param used          the number of landmarks to use.
+     * @param from          the index of the node the path starts at.
+     * @param to            the index of the node the path ends at.
+     * @return a lower bound for the distance, at least {@code 0}.
+     */
+    private static int lowerBound(int[] fromLandmarks, int[] toLandmarks, int stride, int used, int from, int to) {
+        int bound = 0;
+        int fromBase = from * stride;
+        int toBase = to * stride;
+
+        for (int l = 0; l < used; l++) {
+            // d(L, to) <= d(L, from) + d(from, to)
+            int landmarkToFrom = fromLandmarks[fromBase + l];
+            int landmarkToTo = fromLandmarks[toBase + l];
+
+            if (landmarkToFrom != Integer.MAX_VALUE && landmarkToTo != Integer.MAX_VALUE) {
+                bound = Math.max(bound, landmarkToTo - landmarkToFrom);
+            }
+
+            // d(from, L) <= d(from, to) + d(to, L)
+            int fromToLandmark = toLandmarks[fromBase + l];
+            int toToLandmark = toLandmarks[toBase + l];
+
+            if (fromToLandmark != Integer.MAX_VALUE && toToLandmark != Integer.MAX_VALUE) {
+                bound = Math.max(bound, fromToLandmark - toToLandmark);
+            }
+        }
+
+        return bound;
+    }
+
+    /**
+     * Returns the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the node with the given index.
+     */
+    @SuppressWarnings("unchecked")
+    private N nodeAt(int index) {
+        return (N) nodes[index];
+    }
+
+    /**
+     * Returns the index of the given node.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the node.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    private int indexOf(N node) {
+        Integer index = indices.get(node);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Node %s is not part of this graph".formatted(node));
+        }
+
+        return index;
+    }
+
+    /**
+     * The strategies to select landmarks.
+     */
+    public enum Selection {
+
+        /**
+         * Selects each landmark as the node that is farthest away from the landmarks selected so far. The first
+         * landmark is the node farthest away from a random node.
+         */
+        FARTHEST,
+
+        /**
+         * Selects each landmark in a region of the graph that is not covered well by the landmarks selected so far: in
+         * the shortest path tree of a random node, each node is weighted by how much the current lower bound
+         * underestimates its distance, and the landmark is the leaf at the end of the heaviest branch that does not
+         * contain a landmark yet. Falls back to {@link #FARTHEST} if every branch contains a landmark.
+         */
+        AVOID
+    }
+
+    /**
+     * The distance arrays while they are being calculated.
+     */
+    private static final class Table {
+
+        /**
+         * The graph to calculate the distances in.
+         */
+        private final IndexedGraph<?> indexedGraph;
+
+        /**
+         * The number of landmarks.
+         */
+        private final int count;
+
+        /**
+         * The index of each landmark whose distances have been calculated.
+         */
+        private final int[] landmarks;
+
+        /**
+         * The distance from each landmark to each node.
+         */
+        private final int[] fromLandmarks;
+
+        /**
+         * The distance from each node to each landmark.
+         */
+        private final int[] toLandmarks;
+
+        /**
+         * Creates a new {@link Table} for the given number of landmarks.
+         *
+         * @param indexedGraph the graph to calculate the distances in.
+         * @param count        the number of landmarks.
+         */
+        private Table(IndexedGraph<?> indexedGraph, int count) {
+            this.indexedGraph = indexedGraph;
+            this.count = count;
+            this.landmarks = new int[count];
+            this.fromLandmarks = new int[indexedGraph.size() * count];
+            this.toLandmarks = new int[indexedGraph.size() * count];
+        }
+
+        /**
+         * Calculates the distance arrays of the landmarks {@code [start, end)} of the given array in parallel.
+         *
+         * @param selected the index of each landmark.
+         * @param start    the position of the first landmark to calculate.
+         * @param end      the position after the last landmark to calculate.
+         * @param pool     the pool to calculate the distances in.
+         */
+        private void compute(int[] selected, int start, int end, ForkJoinPool pool) {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+            for (int l = start; l < end; l++) {
+                int position = l;
+                landmarks[l] = selected[l];
+
+                tasks.add(ForkJoinTask.adapt(() -> store(fromLandmarks, position, distances(selected[position], false))));
+                tasks.add(ForkJoinTask.adapt(() -> store(toLandmarks, position, distances(selected[position], true))));
+            }
+
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+
+        /**
+         * Stores the given distances of the landmark at the given position in the given array.
+         *
+         * @param table     the array to store the distances in.
+         * @param position  the position of the landmark.
+         * @param distances the distance of each node.
+         */
+        private void store(int[] table, int position, int[] distances) {
+            for (int v = 0; v < distances.length; v++) {
+                table[v * count + position] = distances[v];
+            }
+        }
+
+        /**
+         * Returns the node that maximizes the minimum distance from the first {@code used} landmarks, or from the
+         * given node if {@code used} is {@code 0}.
+         *
+         * @param start      the index of the node to measure from if {@code used} is {@code 0}.
+         * @param used       the number of landmarks selected so far.
+         * @param isLandmark whether each node is already a landmark.
+         * @return the index of the farthest node that is not a landmark yet.
+         */
+        private int farthest(int start, int used, boolean[] isLandmark) {
+            int[] startDistances = used == 0 ? distances(start, false) : null;
+            int best = -1;
+            long bestDistance = -1;
+
+            for (int v = 0; v < indexedGraph.size(); v++) {
+                if (isLandmark[v]) {
+                    continue;
+                }
+
+                long distance = Long.MAX_VALUE;
+
+                if (used == 0) {
+                    distance = startDistances[v] == Integer.MAX_VALUE ? -1 : startDistances[v];
+                }
+                for (int l = 0; l < used; l++) {
+                    int fromLandmark = fromLandmarks[v * count + l];
+                    // Unreachable nodes are the least covered, so they are preferred
+                    distance = Math.min(distance, fromLandmark == Integer.MAX_VALUE ? Long.MAX_VALUE - 1 : fromLandmark);
+                }
+
+                if (distance > bestDistance) {
+                    best = v;
+                    bestDistance = distance;
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * Selects a landmark with the avoid strategy, see {@link Selection#AVOID}.
+         *
+         * @param root       the index of the root of the shortest path tree.
+         * @param used       the number of landmarks selected so far.
+         * @param isLandmark whether each node is already a landmark.
+         * @return the index of the selected node, or {@code -1} if every branch of the tree contains a landmark.
+         */
+        private int avoid(int root, int used, boolean[] isLandmark) {
+            int size = indexedGraph.size();
+            int[] distances = new int[size];
+            int[] predecessors = new int[size];
+            int[] order = new int[size];
+            int settled = dijkstra(root, false, distances, predecessors, order);
+
+            long[] weights = new long[size];
+            boolean[] covered = new boolean[size];
+            int[] heaviestChild = new int[size];
+            Arrays.fill(heaviestChild, -1);
+
+            for (int i = 0; i < settled; i++) {
+                int v = order[i];
+                weights[v] = distances[v] - lowerBound(fromLandmarks, toLandmarks, count, used, root, v);
+                covered[v] = isLandmark[v];
+            }
+
+            // Children are settled after their parents, so they are processed first
+            for (int i = settled - 1; i > 0; i--) {
+                int v = order[i];
+                int parent = predecessors[v];
+
+                if (covered[v]) {
+                    weights[v] = 0;
+                    covered[parent] = true;
+                }
+
+                weights[parent] += weights[v];
+
+                if (heaviestChild[parent] < 0 || weights[v] > weights[heaviestChild[parent]]) {
+                    heaviestChild[parent] = v;
+                }
+            }
+
+            if (heaviestChild[root] < 0 || weights[heaviestChild[root]] <= 0) {
+                return -1;
+            }
+
+            int leaf = heaviestChild[root];
+
+            while (heaviestChild[leaf] >= 0 && weights[heaviestChild[leaf]] > 0) {
+                leaf = heaviestChild[leaf];
+            }
+
+            return leaf;
+        }
+
+        /**
+         * Calculates the distances from or to the given node.
+         *
+         * @param source  the index of the node.
+         * @param reverse whether to calculate the distances to instead of from the node.
+         * @return the distance of each node.
+         */
+        private int[] distances(int source, boolean reverse) {
+            int[] distances = new int[indexedGraph.size()];
+
+            dijkstra(source, reverse, distances, null, null);
+
+            return distances;
+        }
+
+        /**
+         * Runs Dijkstra's algorithm from the given node, following the edges backwards if requested.
+         *
+         * @param source       the index of the start node.
+         * @param reverse      whether to follow the ingoing instead of the outgoing edges.
+         * @param distances    the array to store the distance of each node in.
+         * @param predecessors the array to store the predecessor of each node in, or {@code null}.
+         * @param order        the array to store the nodes in the order they are settled in, or {@code null}.
+         * @return the number of settled nodes.
+         */
+        private int dijkstra(int source, boolean reverse, int[] distances, int[] predecessors, int[] order) {
+            IndexedMinHeap queue = new IndexedMinHeap(indexedGraph.size());
+            int settled = 0;
+
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[source] = 0;
+            queue.insert(source, 0);
+
+            while (!queue.isEmpty()) {
+                int node = queue.extractMin();
+
+                if (order != null) {
+                    order[settled] = node;
+                }
+                settled++;
+
+                int first = reverse ? indexedGraph.firstIncoming(node) : indexedGraph.firstEdge(node);
+                int last = reverse ? indexedGraph.endIncoming(node) : indexedGraph.endEdge(node);
+
+                for (int slot = first; slot < last; slot++) {
+                    int to = reverse ? indexedGraph.source(slot) : indexedGraph.target(slot);
+                    long distance = (long) distances[node] + (reverse ? indexedGraph.incomingWeight(slot)
+                        : indexedGraph.weight(slot));
+
+                    // Distances of Integer.MAX_VALUE or more are never stored, so those nodes remain unreachable
+                    if (distance < distances[to]) {
+                        distances[to] = (int) distance;
+                        if (predecessors != null) {
+                            predecessors[to] = node;
+                        }
+                        queue.insertOrDecrease(to, (int) distance);
+                    }
+                }
+            }
+
+            return settled;
+        }
+
+        /**
+         * Creates the {@link Landmarks} from the calculated distance arrays.
+         *
+         * @param <N> the type of the nodes in the graph.
+         * @return the landmarks.
+         */
+        private <N> Landmarks<N> toLandmarks() {
+            Object[] nodes = new Object[indexedGraph.size()];
+
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = indexedGraph.nodeAt(i);
+            }
+
+            return new Landmarks<>(nodes, landmarks, fromLandmarks, toLandmarks);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package p3.solver;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ShortestPathTree} that stores the distance and the predecessor of each node in maps.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+final class MapShortestPathTree<N> implements ShortestPathTree<N> {
+
+    /**
+     * The start node of all paths.
+     */
+    private final N start;
+
+    /**
+     * The distance from the start node to each node.
+     */
+    private final Map<N, Integer> distances;
+
+    /**
+     * The predecessor of each node along its shortest path.
+     */
+    private final Map<N, N> predecessors;
+
+    /**
+     * Creates a new {@link MapShortestPathTree} from copies of the given maps.
+     *
+     * @param start        the start node of all paths.
+     * @param distances    the distance to each node, or {@link Integer#MAX_VALUE} for unreachable nodes.
+     * @param predecessors the predecessor of each node.
+     */
+    MapShortestPathTree(N start, Map<N, Integer> distances, Map<N, N> predecessors) {
+        this.start = start;
+        this.distances = new HashMap<>(distances);
+        this.predecessors = new HashMap<>(predecessors);
+    }
+
+    @Override
+    public N getStart() {
+        return start;
+    }
+
+    @Override
+    public boolean isReachable(N node) {
+        return distanceTo(node) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int distanceTo(N end) {
+        Integer distance = distances.get(end);
+
+        if (distance == null) {
+            throw new IllegalArgumentException("Node %s is not part of this graph".formatted(end));
+        }
+
+        return distance;
+    }
+
+    @Override
+    public List<N> pathTo(N end) {
+        LinkedList<N> path = new LinkedList<>();
+
+        if (!isReachable(end)) {
+            return path;
+        }
+
+        N current = end;
+        while (!current.equals(start)) {
+            path.addFirst(current);
+            current = predecessors.get(current);
+        }
+        path.addFirst(start);
+
+        return path;
+    }
+}
@@ -0,0 +1,178 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The neighbors of all nodes of a {@link Graph}, stored in compressed sparse row format in the order in which
+ * {@link Graph#getAdjacentNodes(Object)} returns them.
+ * <p>
+ * Unlike the order of {@link p3.graph.IndexedGraph}, which follows
+ * {@link Graph#forEachAdjacent(Object, java.util.function.ObjIntConsumer)}, this order is the one used by {@link DFS},
+ * so the index-based traversers produce the same results as {@link DFS}.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+final class NeighborIndex<N> {
+
+    /**
+     * The node with each index.
+     */
+    private final Object[] nodes;
+
+    /**
+     * A map from each node to its index. This map is the inverse of {@link #nodes}.
+     */
+    private final Map<N, Integer> indices;
+
+    /**
+     * The first position of the neighbors of each node in {@link #neighbors}. The neighbors of node {@code i} end at
+     * {@code offsets[i + 1]}.
+     */
+    private final int[] offsets;
+
+    /**
+     * The index of each neighbor of each node.
+     */
+    private final int[] neighbors;
+
+    /**
+     * The modification count of the graph at the time the neighbors were collected.
+     */
+    private final long modificationCount;
+
+    /**
+     * Creates a new {@link NeighborIndex} from the given arrays.
+     *
+     * @param nodes             the node with each index.
+     * @param indices           the index of each node.
+     * @param offsets           the first position of the neighbors of each node.
+     * @param neighbors         the index of each neighbor of each node.
+     * @param modificationCount the modification count of the graph.
+     */
+    private NeighborIndex(Object[] nodes, Map<N, Integer> indices, int[] offsets, int[] neighbors,
+                          long modificationCount) {
+        this.nodes = nodes;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Collects the neighbors of all nodes of the given graph.
+     *
+     * @param graph the graph to collect the neighbors of.
+     * @param <N>   the type of the nodes in the graph.
+     * @return the neighbors of all nodes of the graph.
+     */
+    @SuppressWarnings("unchecked")
+    static <N> NeighborIndex<N> of(Graph<N> graph) {
+        long modificationCount = graph.getModificationCount();
+        Object[] nodes = graph.getNodes().toArray();
+        Map<N, Integer> indices = new HashMap<>();
+        int[] offsets = new int[nodes.length + 1];
+
+        for (int i = 0; i < nodes.length; i++) {
+            indices.put((N) nodes[i], i);
+        }
+
+        int[] buffer = new int[Math.max(16, nodes.length)];
+        int count = 0;
+
+        for (int i = 0; i < nodes.length; i++) {
+            for (N neighbor : graph.getAdjacentNodes((N) nodes[i])) {
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, count * 2);
+                }
+
+                buffer[count++] = indices.get(neighbor);
+            }
+
+            offsets[i + 1] = count;
+        }
+
+        return new NeighborIndex<>(nodes, indices, offsets, Arrays.copyOf(buffer, count), modificationCount);
+    }
+
+    /**
+     * Returns whether these neighbors are still those of the given graph, i.e., whether its modification count has not
+     * changed since they were collected.
+     *
+     * @param graph the graph the neighbors were collected from.
+     * @return {@code true} if the neighbors are up-to-date, {@code false} otherwise.
+     */
+    boolean isCurrent(Graph<N> graph) {
+        return graph.isUnmodifiedSince(modificationCount);
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the node with the given index.
+     */
+    @SuppressWarnings("unchecked")
+    N nodeAt(int index) {
+        return (N) nodes[index];
+    }
+
+    /**
+     * Returns the index of the given node.
+     *
+     * @param node the node to get the index of.
+     * @return the index of the node.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    int indexOf(N node) {
+        Integer index = indices.get(node);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Node %s is not part of this graph".formatted(node));
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the first position of the neighbors of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the first position of the neighbors of the node.
+     */
+    int firstNeighbor(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the position after the last neighbor of the node with the given index.
+     *
+     * @param index the index of the node.
+     * @return the position after the last neighbor of the node.
+     */
+    int endNeighbor(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Returns the index of the neighbor at the given position.
+     *
+     * @param position the position of the neighbor.
+     * @return the index of the neighbor.
+     */
+    int neighbor(int position) {
+        return neighbors[position];
+    }
+}
@@ -0,0 +1,23 @@
+package p3.solver;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * A function that reads a single node from a stream that has been written with a matching {@link NodeWriter}.
+ *
+ * @param <N> the type of the nodes.
+ * @see NodeWriter
+ */
+@FunctionalInterface
+public interface NodeReader<N> {
+
+    /**
+     * Reads a node from the given stream.
+     *
+     * @param in the stream to read from.
+     * @return the node.
+     * @throws IOException if reading from the stream fails.
+     */
+    N read(DataInput in) throws IOException;
+}
@@ -0,0 +1,24 @@
+package p3.solver;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A function that writes a single node to a stream. It is used to persist precomputed data structures, such as a
+ * {@link ContractionHierarchy} or {@link Landmarks}, together with the nodes they refer to.
+ *
+ * @param <N> the type of the nodes.
+ * @see NodeReader
+ */
+@FunctionalInterface
+public interface NodeWriter<N> {
+
+    /**
+     * Writes the given node to the given stream.
+     *
+     * @param out  the stream to write to.
+     * @param node the node to write.
+     * @throws IOException if writing to the stream fails.
+     */
+    void write(DataOutput out, N node) throws IOException;
+}
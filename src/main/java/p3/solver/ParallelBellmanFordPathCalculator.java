@@ -0,0 +1,254 @@
+package p3.solver;
+
+import p3.graph.Graph;
+import p3.graph.IndexedGraph;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses a parallel version of the Bellman-Ford algorithm
+ * to calculate the shortest path between two nodes in a {@link Graph}.
+ * <p>
+ * In each pass, the edges of an {@link IndexedGraph} are partitioned among the threads of a {@link ForkJoinPool} and
+ * relaxed concurrently. The distance and predecessor of each node are packed into a single {@code long} of an
+ * {@link AtomicLongArray}, with the distance in the upper and the index of the predecessor in the lower 32 bits, and
+ * only ever replaced with a compare-and-set that lowers the distance. Concurrent relaxations of edges ending at the same
+ * node therefore cannot lose an improvement, and every predecessor belongs to the distance it was recorded with.
+ * Since a pass may already use distances lowered earlier in the same pass, the distances after {@code k} passes are at
+ * most the distances of the sequential algorithm, and the same bounds for convergence and negative cycles hold:
+ * <ul>
+ *     <li>If a pass does not lower any distance, the distances are final.</li>
+ *     <li>If a distance is still lowered in pass {@code |V|}, a negative cycle is reachable from the start node.</li>
+ * </ul>
+ * As in {@link BellmanFordPathCalculator}, a predecessor is only replaced by a strictly shorter path, so the
+ * predecessors form a tree even if the graph contains cycles of weight {@code 0}. The paths have the same length as
+ * those of {@link BellmanFordPathCalculator}. If several shortest paths exist, however, the one that is found depends on
+ * the order in which the relaxations are performed, which differs from the order of the sequential algorithm and
+ * between runs.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class ParallelBellmanFordPathCalculator<N> extends IndexedPathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link ParallelBellmanFordPathCalculator} that use the common pool.
+     */
+    public static final PathCalculator.Factory FACTORY = ParallelBellmanFordPathCalculator::new;
+
+    /**
+     * The pool to run the relaxation passes in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new {@link ParallelBellmanFordPathCalculator} for the given graph that uses the common pool.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public ParallelBellmanFordPathCalculator(Graph<N> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link ParallelBellmanFordPathCalculator} for the given graph that uses the given pool.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     * @param pool  the pool to run the relaxation passes in.
+     */
+    public ParallelBellmanFordPathCalculator(Graph<N> graph, ForkJoinPool pool) {
+        super(graph);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a factory for creating new instances of {@link ParallelBellmanFordPathCalculator} that use the given
+     * pool.
+     *
+     * @param pool the pool to run the relaxation passes in.
+     * @return a factory for creating new instances of {@link ParallelBellmanFordPathCalculator}.
+     */
+    public static PathCalculator.Factory factory(ForkJoinPool pool) {
+        return new PathCalculator.Factory() {
+            @Override
+            public <N> PathCalculator<N> create(Graph<N> graph) {
+                return new ParallelBellmanFordPathCalculator<>(graph, pool);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the end node is not reachable from the start node, an empty list is returned.
+     *
+     * @throws IllegalArgumentException if the start or end node is not part of the graph.
+     */
+    @Override
+    public List<N> calculatePath(N start, N end) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        int endIndex = indexedGraph.indexOf(end);
+
+        long[] labels = calculateLabels(indexedGraph, startIndex);
+
+        return reconstructPath(indexedGraph, predecessors(labels), startIndex, endIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the start node is not part of the graph.
+     */
+    @Override
+    public ShortestPathTree<N> calculateFrom(N start) {
+        IndexedGraph<N> indexedGraph = indexedGraph();
+        int startIndex = indexedGraph.indexOf(start);
+        long[] labels = calculateLabels(indexedGraph, startIndex);
+
+        return new IndexedShortestPathTree<>(indexedGraph, startIndex, distances(labels), predecessors(labels));
+    }
+
+    /**
+     * Calculates the distance from the node with the given index to every node of the given graph, together with the
+     * predecessor of each node on a shortest path.
+     *
+     * @param indexedGraph the graph to calculate the distances in.
+     * @param start        the index of the start node.
+     * @return the packed distance and predecessor of each node, see {@link #label(int, int)}. The distance of a node
+     * that is not reachable is {@link Integer#MAX_VALUE}, and the start node and unreachable nodes have the predecessor
+     * {@code -1}.
+     * @throws CycleException if a negative cycle is reachable from the start node.
+     */
+    long[] calculateLabels(IndexedGraph<N> indexedGraph, int start) {
+        int size = indexedGraph.size();
+        int[] sources = indexedGraph.edgeSources();
+        AtomicLongArray labels = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            labels.set(i, label(Integer.MAX_VALUE, -1));
+        }
+        labels.set(start, label(0, -1));
+
+        // Pass |V| only serves to detect a negative cycle
+        for (int pass = 1; pass <= size; pass++) {
+            boolean[] changed = new boolean[1];
+
+            ParallelRange.forEach(pool, sources.length, (startSlot, endSlot) -> {
+                boolean changedInRange = false;
+
+                for (int slot = startSlot; slot < endSlot; slot++) {
+                    int source = sources[slot];
+                    int distance = distance(labels.get(source));
+
+                    if (distance != Integer.MAX_VALUE) {
+                        changedInRange |= lowerDistance(labels, indexedGraph.target(slot),
+                            label(distance + indexedGraph.weight(slot), source));
+                    }
+                }
+
+                if (changedInRange) {
+                    changed[0] = true;
+                }
+            });
+
+            if (!changed[0]) {
+                long[] result = new long[size];
+
+                for (int i = 0; i < size; i++) {
+                    result[i] = labels.get(i);
+                }
+
+                return result;
+            }
+        }
+
+        throw new CycleException("A negative cycle was detected");
+    }
+
+    /**
+     * Packs the given distance and predecessor into a single {@code long}, with the distance in the upper 32 bits.
+     *
+     * @param distance    the distance of the node.
+     * @param predecessor the index of the predecessor of the node, or {@code -1} if it has none.
+     * @return the packed label.
+     */
+    static long label(int distance, int predecessor) {
+        return ((long) distance << 32) | (predecessor & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the distance stored in the given label.
+     *
+     * @param label the packed label.
+     * @return the distance.
+     */
+    static int distance(long label) {
+        return (int) (label >> 32);
+    }
+
+    /**
+     * Returns the index of the predecessor stored in the given label.
+     *
+     * @param label the packed label.
+     * @return the index of the predecessor, or {@code -1} if there is none.
+     */
+    static int predecessor(long label) {
+        return (int) label;
+    }
+
+    /**
+     * Returns the distances stored in the given labels.
+     *
+     * @param labels the packed labels.
+     * @return the distance of each node.
+     */
+    private static int[] distances(long[] labels) {
+        int[] distances = new int[labels.length];
+
+        for (int i = 0; i < labels.length; i++) {
+            distances[i] = distance(labels[i]);
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns the predecessors stored in the given labels.
+     *
+     * @param labels the packed labels.
+     * @return the index of the predecessor of each node, or {@code -1} if it has none.
+     */
+    private static int[] predecessors(long[] labels) {
+        int[] predecessors = new int[labels.length];
+
+        for (int i = 0; i < labels.length; i++) {
+            predecessors[i] = predecessor(labels[i]);
+        }
+
+        return predecessors;
+    }
+
+    /**
+     * Replaces the label at the given index with the given label if its distance is smaller than the current distance.
+     *
+     * @param labels the labels to update.
+     * @param index  the index of the label to update.
+     * @param label  the new label.
+     * @return {@code true} if the label was replaced, {@code false} otherwise.
+     */
+    private static boolean lowerDistance(AtomicLongArray labels, int index, long label) {
+        long current = labels.get(index);
+
+        while (distance(label) < distance(current)) {
+            if (labels.compareAndSet(index, current, label)) {
+                return true;
+            }
+
+            current = labels.get(index);
+        }
+
+        return false;
+    }
+}
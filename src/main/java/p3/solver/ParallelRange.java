@@ -0,0 +1,114 @@
+package p3.solver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link RecursiveAction} that processes a range of indices by splitting it in halves until the parts are small
+ * enough to be processed sequentially.
+ * <p>
+ * It is used by the parallel solvers to distribute loops over nodes or edges among the threads of a
+ * {@link ForkJoinPool}.
+ */
+final class ParallelRange extends RecursiveAction {
+
+    /**
+     * The version of the serialized form of this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of indices below which a range is not split any further.
+     */
+    static final int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * The first index of the range.
+     */
+    private final int start;
+
+    /**
+     * The index after the last index of the range.
+     */
+    private final int end;
+
+    /**
+     * The number of indices below which the range is not split any further.
+     */
+    private final int threshold;
+
+    /**
+     * The action to perform on each part of the range.
+     */
+    private final Action action;
+
+    /**
+     * Creates a new {@link ParallelRange} for the indices {@code [start, end)}.
+     *
+     * @param start     the first index of the range.
+     * @param end       the index after the last index of the range.
+     * @param threshold the number of indices below which the range is not split any further.
+     * @param action    the action to perform on each part of the range.
+     */
+    private ParallelRange(int start, int end, int threshold, Action action) {
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+        this.action = action;
+    }
+
+    /**
+     * Performs the given action on the indices {@code [0, size)} in the given pool and waits for it to finish.
+     *
+     * @param pool   the pool to use.
+     * @param size   the number of indices.
+     * @param action the action to perform on each part of the range.
+     */
+    static void forEach(ForkJoinPool pool, int size, Action action) {
+        forEach(pool, size, DEFAULT_THRESHOLD, action);
+    }
+
+    /**
+     * Performs the given action on the indices {@code [0, size)} in the given pool and waits for it to finish.
+     *
+     * @param pool      the pool to use.
+     * @param size      the number of indices.
+     * @param threshold the number of indices below which a range is not split any further.
+     * @param action    the action to perform on each part of the range.
+     */
+    static void forEach(ForkJoinPool pool, int size, int threshold, Action action) {
+        if (size <= threshold) {
+            // Not worth the overhead of submitting a task
+            action.run(0, size);
+        } else {
+            pool.invoke(new ParallelRange(0, size, Math.max(1, threshold), action));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= threshold) {
+            action.run(start, end);
+            return;
+        }
+
+        int middle = (start + end) >>> 1;
+
+        invokeAll(new ParallelRange(start, middle, threshold, action), new ParallelRange(middle, end, threshold, action));
+    }
+
+    /**
+     * An action that processes a part of a range of indices.
+     */
+    @FunctionalInterface
+    interface Action {
+
+        /**
+         * Processes the indices {@code [start, end)}.
+         *
+         * @param start the first index to process.
+         * @param end   the index after the last index to process.
+         */
+        void run(int start, int end);
+    }
+}
@@ -27,6 +27,22 @@ public interface PathCalculator<N> {
      */
     List<N> calculatePath(N start, N end);
 
+    /**
+     * Calculate the optimal paths from the given start node to all nodes in the graph.
+     * <p>
+     * The result can be queried for any number of end nodes without repeating the calculation. Implementations that
+     * only support paths between two given nodes do not override this method.
+     *
+     * @param start the start node of all paths.
+     * @return a {@link ShortestPathTree} containing the optimal paths from the start node.
+     * @throws CycleException                optionally, if a negative cycle is detected.
+     * @throws UnsupportedOperationException if this implementation cannot calculate all paths from a start node.
+     */
+    default ShortestPathTree<N> calculateFrom(N start) {
+        throw new UnsupportedOperationException("%s does not support single-source queries"
+            .formatted(getClass().getSimpleName()));
+    }
+
     /**
      * A factory for creating new instances of {@link MSTCalculator}.
      */
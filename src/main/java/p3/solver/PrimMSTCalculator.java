@@ -70,12 +70,12 @@ public class PrimMSTCalculator<N> implements MSTCalculator<N> {
      * @param node current node processed by the algorithm
      */
     protected void processNode(N node) {
-        for (Edge<N> outgoingEdge : graph.getOutgoingEdges(node)) {
-            if (remainingNodes.contains(outgoingEdge.to()) && outgoingEdge.weight() < keys.get(outgoingEdge.to())) {
-                keys.put(outgoingEdge.to(), outgoingEdge.weight());
-                predecessors.put(outgoingEdge.to(), node);
+        graph.forEachAdjacent(node, (to, weight) -> {
+            if (remainingNodes.contains(to) && weight < keys.get(to)) {
+                keys.put(to, weight);
+                predecessors.put(to, node);
             }
-        }
+        });
     }
 
     /**
@@ -0,0 +1,52 @@
+package p3.solver;
+
+import java.util.List;
+
+/**
+ * The result of a single-source shortest path calculation, i.e., the shortest paths from one start node to every node
+ * of a graph.
+ * <p>
+ * The tree is calculated once by {@link PathCalculator#calculateFrom(Object)}. Afterwards, the path to and the distance
+ * of any node can be queried in time proportional to the length of the path, without repeating the calculation.
+ *
+ * @param <N> the type of the nodes in the graph.
+ * @see PathCalculator#calculateFrom(Object)
+ */
+public interface ShortestPathTree<N> {
+
+    /**
+     * Returns the start node of all paths in this tree.
+     *
+     * @return the start node.
+     */
+    N getStart();
+
+    /**
+     * Returns whether the given node is reachable from the start node.
+     *
+     * @param node the node to check.
+     * @return {@code true} if there is a path from the start node to the given node, {@code false} otherwise.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    boolean isReachable(N node);
+
+    /**
+     * Returns the length of the shortest path from the start node to the given node.
+     *
+     * @param end the node to get the distance of.
+     * @return the length of the shortest path, or {@link Integer#MAX_VALUE} if the node is not reachable.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    int distanceTo(N end);
+
+    /**
+     * Returns the shortest path from the start node to the given node.
+     * <p>
+     * The start and the end node are both included in the returned list.
+     *
+     * @param end the end node of the path.
+     * @return a list of nodes representing the shortest path, or an empty list if the node is not reachable.
+     * @throws IllegalArgumentException if the given node is not part of the graph.
+     */
+    List<N> pathTo(N end);
+}
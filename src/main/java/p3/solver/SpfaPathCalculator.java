@@ -0,0 +1,100 @@
+package p3.solver;
+
+import p3.graph.Graph;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * An implementation of the {@link PathCalculator} interface that uses the queue-based variant of the Bellman-Ford
+ * algorithm, also known as the shortest path faster algorithm (SPFA), to calculate the shortest path between two nodes
+ * in a {@link Graph}.
+ * <p>
+ * Instead of relaxing all edges in every pass, the nodes whose distance has changed are kept in a FIFO worklist, and
+ * only the outgoing edges of these nodes are relaxed. Every node is added to the worklist at most once per pass of the
+ * regular Bellman-Ford algorithm, so a node that is added {@code |V|} times lies on or behind a negative cycle.
+ *
+ * @param <N> the type of the nodes in the graph.
+ */
+public class SpfaPathCalculator<N> extends BellmanFordPathCalculator<N> {
+
+    /**
+     * Factory for creating new instances of {@link SpfaPathCalculator}.
+     */
+    public static final PathCalculator.Factory FACTORY = SpfaPathCalculator::new;
+
+    /**
+     * The number of times each node has been added to the worklist.
+     */
+    protected final Map<N, Integer> enqueueCounts = new HashMap<>();
+
+    /**
+     * Whether the last call of {@link #processGraph()} detected a negative cycle.
+     */
+    protected boolean negativeCycle;
+
+    /**
+     * Creates a new {@link SpfaPathCalculator} for the given graph.
+     *
+     * @param graph the graph to calculate the shortest path in.
+     */
+    public SpfaPathCalculator(Graph<N> graph) {
+        super(graph);
+    }
+
+    @Override
+    protected void processGraph() {
+        int size = graph.getNodes().size();
+        Queue<N> worklist = new ArrayDeque<>();
+        Set<N> queued = new HashSet<>();
+
+        enqueueCounts.clear();
+        negativeCycle = false;
+
+        for (Map.Entry<N, Integer> entry : distances.entrySet()) {
+            if (entry.getValue() != Integer.MAX_VALUE) {
+                worklist.add(entry.getKey());
+                queued.add(entry.getKey());
+                enqueueCounts.put(entry.getKey(), 1);
+            }
+        }
+
+        while (!worklist.isEmpty()) {
+            N node = worklist.remove();
+            queued.remove(node);
+
+            int distance = distances.get(node);
+
+            graph.forEachAdjacent(node, (to, weight) -> {
+                if (negativeCycle || distance + weight >= distances.get(to)) {
+                    return;
+                }
+
+                distances.put(to, distance + weight);
+                predecessors.put(to, node);
+                relaxations++;
+
+                if (queued.add(to)) {
+                    worklist.add(to);
+
+                    if (enqueueCounts.merge(to, 1, Integer::sum) >= size) {
+                        negativeCycle = true;
+                    }
+                }
+            });
+
+            if (negativeCycle) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected boolean hasNegativeCycle() {
+        return negativeCycle;
+    }
+}
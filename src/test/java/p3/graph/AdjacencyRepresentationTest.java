@@ -0,0 +1,96 @@
+package p3.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the growth contract of all {@link AdjacencyRepresentation} implementations.
+ */
+public class AdjacencyRepresentationTest {
+
+    private static final List<AdjacencyRepresentation.Factory> FACTORIES = List.of(
+        AdjacencyList.FACTORY,
+        AdjacencyList.TRANSPOSED_FACTORY,
+        AdjacencyMatrix.FACTORY,
+        BitAdjacencyMatrix.FACTORY,
+        CsrAdjacency.FACTORY
+    );
+
+    @Test
+    public void testGrowOneByOne() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            AdjacencyRepresentation representation = factory.create(0);
+
+            for (int i = 0; i < 100; i++) {
+                representation.grow();
+                assertEquals(i + 1, representation.size());
+                representation.addEdge(i, i / 3);
+            }
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Set.of(i / 3), representation.getAdjacentIndices(i), representation.getClass().getSimpleName());
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> representation.hasEdge(100, 0));
+        }
+    }
+
+    @Test
+    public void testGrowByAmount() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            AdjacencyRepresentation representation = factory.create(2);
+            representation.addEdge(0, 1);
+
+            representation.grow(5);
+            representation.addEdge(6, 0);
+
+            assertEquals(7, representation.size(), representation.getClass().getSimpleName());
+            assertTrue(representation.hasEdge(0, 1));
+            assertTrue(representation.hasEdge(6, 0));
+            assertFalse(representation.hasEdge(5, 0));
+            assertThrows(IllegalArgumentException.class, () -> representation.grow(-1));
+        }
+    }
+
+    @Test
+    public void testEnsureCapacityKeepsSize() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            AdjacencyRepresentation representation = factory.create(3);
+            representation.addEdge(2, 0);
+
+            representation.ensureCapacity(50);
+
+            assertEquals(3, representation.size(), representation.getClass().getSimpleName());
+            assertTrue(representation.hasEdge(2, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> representation.addEdge(3, 0));
+        }
+    }
+
+    @Test
+    public void testForEachIncoming() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            AdjacencyRepresentation representation = factory.create(4);
+            representation.addEdge(0, 2);
+            representation.addEdge(1, 2);
+            representation.addEdge(3, 2);
+            representation.addEdge(2, 0);
+            representation.addEdge(1, 2);
+            representation.grow();
+            representation.addEdge(4, 2);
+
+            Set<Integer> incoming = new HashSet<>();
+            representation.forEachIncoming(2, incoming::add);
+            assertEquals(Set.of(0, 1, 3, 4), incoming, representation.getClass().getSimpleName());
+
+            incoming.clear();
+            representation.forEachIncoming(4, incoming::add);
+            assertEquals(Set.of(), incoming, representation.getClass().getSimpleName());
+            assertThrows(IndexOutOfBoundsException.class, () -> representation.forEachIncoming(5, i -> {
+            }));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package p3.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BasicGraph}.
+ */
+public class BasicGraphTest {
+
+    private final Graph<Integer> graph = Graph.of(Set.of(1, 2, 3, 4), Set.of(
+        Edge.of(1, 2, 5),
+        Edge.of(1, 3, 6),
+        Edge.of(3, 2, -1),
+        Edge.of(2, 1, 0)
+    ));
+
+    @Test
+    public void testOutgoingAndIngoingEdges() {
+        assertEquals(Set.of(Edge.of(1, 2, 5), Edge.of(1, 3, 6)), graph.getOutgoingEdges(1));
+        assertEquals(Set.of(Edge.of(1, 2, 5), Edge.of(3, 2, -1)), graph.getIngoingEdges(2));
+        assertEquals(Set.of(), graph.getOutgoingEdges(4));
+        assertEquals(Set.of(), graph.getIngoingEdges(4));
+    }
+
+    @Test
+    public void testGetEdge() {
+        assertEquals(-1, graph.getEdge(3, 2).weight());
+        assertNull(graph.getEdge(2, 3));
+        assertNull(graph.getEdge(4, 1));
+    }
+
+    @Test
+    public void testModificationCount() {
+        assertEquals(0, graph.getModificationCount());
+        assertTrue(graph.isUnmodifiedSince(0));
+    }
+
+    @Test
+    public void testReturnedSetsAreIndependent() {
+        Set<Edge<Integer>> adjacent = graph.getAllAdjacentEdges(2);
+
+        assertEquals(Set.of(Edge.of(2, 1, 0), Edge.of(1, 2, 5), Edge.of(3, 2, -1)), adjacent);
+        assertEquals(Set.of(Edge.of(2, 1, 0)), graph.getOutgoingEdges(2));
+    }
+
+    @Test
+    public void testForEachAdjacent() {
+        Map<Integer, Integer> adjacent = new HashMap<>();
+        graph.forEachAdjacent(1, adjacent::put);
+
+        assertEquals(Map.of(2, 5, 3, 6), adjacent);
+    }
+
+    @Test
+    public void testParallelEdges() {
+        // Edges created with Edge.of are equal if they connect the same nodes, so the second edge needs its own type
+        Set<Edge<Integer>> edges = Set.of(Edge.of(1, 2, 3), new OtherEdge(1, 2, 7));
+        Graph<Integer> parallel = Graph.of(Set.of(1, 2), edges);
+        List<Integer> weights = new ArrayList<>();
+        parallel.forEachAdjacent(1, (to, weight) -> weights.add(weight));
+
+        assertEquals(edges, parallel.getOutgoingEdges(1));
+        assertEquals(edges, parallel.getIngoingEdges(2));
+        assertEquals(Set.of(3, 7), Set.copyOf(weights));
+        assertEquals(2, weights.size());
+        assertTrue(parallel.getEdges().contains(parallel.getEdge(1, 2)));
+    }
+
+    /**
+     * An {@link Edge} that is not equal to any edge created with {@link Edge#of(Object, Object, int)}.
+     *
+     * @param from   the node the edge starts at.
+     * @param to     the node the edge ends at.
+     * @param weight the weight of the edge.
+     */
+    private record OtherEdge(Integer from, Integer to, int weight) implements Edge<Integer> {
+    }
+}
@@ -0,0 +1,61 @@
+package p3.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BitAdjacencyMatrix}.
+ */
+public class BitAdjacencyMatrixTest {
+
+    @Test
+    public void testAddAndQueryEdges() {
+        BitAdjacencyMatrix matrix = new BitAdjacencyMatrix(130);
+        matrix.addEdge(0, 0);
+        matrix.addEdge(0, 63);
+        matrix.addEdge(0, 64);
+        matrix.addEdge(0, 129);
+        matrix.addEdge(129, 5);
+
+        assertTrue(matrix.hasEdge(0, 63));
+        assertTrue(matrix.hasEdge(0, 64));
+        assertTrue(matrix.hasEdge(129, 5));
+        assertFalse(matrix.hasEdge(0, 1));
+        assertFalse(matrix.hasEdge(5, 129));
+        assertEquals(Set.of(0, 63, 64, 129), matrix.getAdjacentIndices(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.addEdge(0, 130));
+    }
+
+    @Test
+    public void testForEachAdjacentIsOrdered() {
+        BitAdjacencyMatrix matrix = new BitAdjacencyMatrix(100);
+        matrix.addEdge(3, 99);
+        matrix.addEdge(3, 2);
+        matrix.addEdge(3, 70);
+
+        List<Integer> visited = new ArrayList<>();
+        matrix.forEachAdjacent(3, visited::add);
+
+        assertEquals(List.of(2, 70, 99), visited);
+    }
+
+    @Test
+    public void testGrowPreservesEdges() {
+        BitAdjacencyMatrix matrix = new BitAdjacencyMatrix(0);
+
+        for (int i = 0; i < 200; i++) {
+            matrix.grow();
+            matrix.addEdge(i, i / 2);
+        }
+
+        assertEquals(200, matrix.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(Set.of(i / 2), matrix.getAdjacentIndices(i));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package p3.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CsrAdjacency}.
+ */
+public class CsrAdjacencyTest {
+
+    @Test
+    public void testAddAndQueryEdges() {
+        CsrAdjacency csr = new CsrAdjacency(4);
+        csr.addEdge(0, 3);
+        csr.addEdge(0, 1);
+        csr.addEdge(2, 0);
+        csr.addEdge(0, 1);
+
+        assertTrue(csr.hasEdge(0, 1));
+        assertTrue(csr.hasEdge(0, 3));
+        assertTrue(csr.hasEdge(2, 0));
+        assertFalse(csr.hasEdge(1, 0));
+        assertFalse(csr.hasEdge(0, 2));
+        assertEquals(Set.of(1, 3), csr.getAdjacentIndices(0));
+        assertEquals(Set.of(), csr.getAdjacentIndices(3));
+        assertEquals(3, csr.edgeCount());
+    }
+
+    @Test
+    public void testForEachAdjacent() {
+        CsrAdjacency csr = new CsrAdjacency(4);
+        csr.addEdge(1, 3);
+        csr.addEdge(1, 0);
+        csr.addEdge(1, 2);
+
+        List<Integer> visited = new ArrayList<>();
+        csr.forEachAdjacent(1, visited::add);
+
+        assertEquals(List.of(0, 2, 3), visited);
+    }
+
+    @Test
+    public void testAddEdgeAfterRead() {
+        CsrAdjacency csr = new CsrAdjacency(3);
+        csr.addEdge(1, 2);
+        assertTrue(csr.hasEdge(1, 2));
+
+        csr.addEdge(1, 0);
+        csr.addEdge(0, 2);
+
+        assertEquals(Set.of(0, 2), csr.getAdjacentIndices(1));
+        assertEquals(Set.of(2), csr.getAdjacentIndices(0));
+    }
+
+    @Test
+    public void testGrow() {
+        CsrAdjacency csr = new CsrAdjacency(1);
+        csr.addEdge(0, 0);
+        csr.grow();
+        csr.addEdge(1, 0);
+
+        assertEquals(2, csr.size());
+        assertTrue(csr.hasEdge(0, 0));
+        assertTrue(csr.hasEdge(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.hasEdge(2, 0));
+    }
+
+    @Test
+    public void testFreeze() {
+        CsrAdjacency csr = new CsrAdjacency(2);
+        csr.addEdge(0, 1);
+        csr.freeze();
+
+        assertTrue(csr.isFrozen());
+        assertTrue(csr.hasEdge(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> csr.addEdge(1, 0));
+        assertThrows(UnsupportedOperationException.class, csr::grow);
+    }
+
+    @Test
+    public void testInterleavedAddsAndReads() {
+        Random random = new Random(1);
+        CsrAdjacency csr = new CsrAdjacency(20);
+        Map<List<Integer>, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(20);
+            int to = random.nextInt(20);
+
+            if (random.nextBoolean()) {
+                int weight = random.nextInt(10);
+                csr.addEdge(from, to, weight);
+                expected.put(List.of(from, to), weight);
+            } else {
+                csr.addEdge(from, to);
+                expected.putIfAbsent(List.of(from, to), 0);
+            }
+
+            assertTrue(csr.hasEdge(from, to));
+            assertEquals((int) expected.get(List.of(from, to)), csr.getWeight(from, to));
+            assertEquals(expected.size(), csr.edgeCount());
+
+            List<Integer> row = new ArrayList<>();
+            csr.forEachAdjacentEdge(from, (adjacentIndex, weight) -> {
+                row.add(adjacentIndex);
+                assertEquals((int) expected.get(List.of(from, adjacentIndex)), weight);
+            });
+            assertEquals(row.stream().sorted().distinct().toList(), row);
+
+            Set<Integer> incoming = new HashSet<>();
+            csr.forEachIncoming(to, source -> assertTrue(incoming.add(source)));
+            assertEquals(expected.keySet().stream().filter(edge -> edge.get(1) == to).count(), incoming.size());
+        }
+    }
+
+    @Test
+    public void testConcurrentReadsBeforeFreeze() {
+        CsrAdjacency csr = new CsrAdjacency(100);
+        for (int from = 0; from < 100; from++) {
+            csr.addEdge(from, (from * 7) % 100, from);
+        }
+        for (int from = 0; from < 10; from++) {
+            csr.addEdge(from, (from + 1) % 100, -from);
+        }
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            int from = i % 100;
+
+            assertTrue(csr.hasEdge(from, (from * 7) % 100));
+            assertEquals(from, csr.getWeight(from, (from * 7) % 100));
+            assertEquals(from < 10 ? 2 : 1, csr.getAdjacentIndices(from).size());
+        });
+        assertFalse(csr.isFrozen());
+    }
+}
@@ -0,0 +1,129 @@
+package p3.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the implementations of {@link WeightedAdjacencyRepresentation} and their use in {@link AdjacencyGraph}.
+ */
+public class WeightedAdjacencyRepresentationTest {
+
+    private static final List<AdjacencyRepresentation.Factory> FACTORIES = List.of(
+        AdjacencyList.FACTORY,
+        AdjacencyList.TRANSPOSED_FACTORY,
+        CsrAdjacency.FACTORY
+    );
+
+    @Test
+    public void testWeights() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            WeightedAdjacencyRepresentation representation = (WeightedAdjacencyRepresentation) factory.create(3);
+            representation.addEdge(0, 1, 5);
+            representation.addEdge(0, 2, -3);
+            representation.addEdge(0, 1, 7);
+            representation.addEdge(0, 2);
+            representation.addEdge(1, 0);
+
+            assertEquals(7, representation.getWeight(0, 1), representation.getClass().getSimpleName());
+            assertEquals(-3, representation.getWeight(0, 2), representation.getClass().getSimpleName());
+            assertEquals(0, representation.getWeight(1, 0), representation.getClass().getSimpleName());
+            assertThrows(NoSuchElementException.class, () -> representation.getWeight(2, 0));
+
+            Map<Integer, Integer> adjacent = new HashMap<>();
+            representation.forEachAdjacentEdge(0, adjacent::put);
+            assertEquals(Map.of(1, 7, 2, -3), adjacent);
+        }
+    }
+
+    @Test
+    public void testIncomingWeights() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            WeightedAdjacencyRepresentation representation = (WeightedAdjacencyRepresentation) factory.create(3);
+            representation.addEdge(0, 2, 5);
+            representation.addEdge(1, 2);
+            representation.addEdge(0, 2, 9);
+            representation.addEdge(2, 0, 1);
+
+            Map<Integer, Integer> incoming = new HashMap<>();
+            representation.forEachIncomingEdge(2, incoming::put);
+            assertEquals(Map.of(0, 9, 1, 0), incoming, representation.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void testWeightsSurviveRepeatedCompaction() {
+        CsrAdjacency csr = new CsrAdjacency(2);
+        csr.addEdge(0, 1, 4);
+        assertEquals(4, csr.getWeight(0, 1));
+
+        csr.addEdge(1, 0, 2);
+        csr.addEdge(0, 1);
+        assertEquals(4, csr.getWeight(0, 1));
+        assertEquals(2, csr.getWeight(1, 0));
+    }
+
+    @Test
+    public void testWeightsSurviveRowGrowth() {
+        AdjacencyList list = new AdjacencyList(20);
+
+        for (int to = 0; to < 20; to++) {
+            if (to % 2 == 0) {
+                list.addEdge(0, to, to * 3);
+            } else {
+                list.addEdge(0, to);
+            }
+        }
+        list.grow();
+        list.addEdge(0, 20, -1);
+
+        for (int to = 0; to < 20; to++) {
+            assertEquals(to % 2 == 0 ? to * 3 : 0, list.getWeight(0, to));
+        }
+        assertEquals(-1, list.getWeight(0, 20));
+        assertEquals(21, list.getAdjacentIndices(0).size());
+        assertTrue(list.getAdjacentIndices(20).isEmpty());
+    }
+
+    @Test
+    public void testWeightsOfReplacedLists() throws ReflectiveOperationException {
+        AdjacencyList list = new AdjacencyList(3);
+        LinkedList<?>[] adjacencyList = {new LinkedList<>(List.of(1, 2)), new LinkedList<>(), new LinkedList<>(List.of(0))};
+        Field field = AdjacencyList.class.getDeclaredField("adjacencyList");
+        field.setAccessible(true);
+        field.set(list, adjacencyList);
+
+        assertEquals(0, list.getWeight(0, 2));
+        list.addEdge(0, 2, 6);
+        list.addEdge(1, 2, 3);
+
+        assertEquals(6, list.getWeight(0, 2));
+        assertEquals(0, list.getWeight(0, 1));
+        assertEquals(3, list.getWeight(1, 2));
+        assertEquals(List.of(1, 2), adjacencyList[0]);
+        assertEquals(List.of(2), adjacencyList[1]);
+    }
+
+    @Test
+    public void testAdjacencyGraphUsesRepresentationWeights() {
+        for (AdjacencyRepresentation.Factory factory : FACTORIES) {
+            AdjacencyGraph<String> graph = new AdjacencyGraph<>(Set.of("a", "b"), Set.of(Edge.of("a", "b", 3)), factory);
+            graph.addNode("c");
+            graph.addEdge("b", "c", 4);
+            graph.addEdge("a", "b", 8);
+
+            assertEquals(8, graph.getEdge("a", "b").weight());
+            assertEquals(Set.of(Edge.of("b", "c", 4)), graph.getOutgoingEdges("b"));
+            assertEquals(4, graph.getOutgoingEdges("b").iterator().next().weight());
+            assertEquals(Set.of(Edge.of("a", "b", 8)), graph.getIngoingEdges("b"));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+
+/**
+ * Tests for {@link AStarPathCalculator}.
+ */
+public class AStarPathCalculatorTest {
+
+    /**
+     * The width and height of the grid used by the tests.
+     */
+    private static final int GRID_SIZE = 20;
+
+    @Test
+    public void testZeroHeuristic() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 1),
+            Edge.of("C", "B", 2),
+            Edge.of("B", "D", 1)
+        ));
+        AStarPathCalculator<String> calculator = new AStarPathCalculator<>(graph, (node, end) -> 0);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+        assertEquals(List.of(), calculator.calculatePath("D", "A"));
+    }
+
+    @Test
+    public void testEuclideanHeuristicOnGrid() {
+        Graph<Integer> grid = grid(new Random(21));
+        AStarPathCalculator<Integer> calculator = new AStarPathCalculator<>(grid,
+            AStarPathCalculator.euclidean(node -> 10 * (node % GRID_SIZE), node -> 10 * (node / GRID_SIZE)));
+        AStarPathCalculator<Integer> uninformed = new AStarPathCalculator<>(grid, (node, end) -> 0);
+
+        for (int end = 1; end < GRID_SIZE * GRID_SIZE; end += 37) {
+            List<Integer> path = calculator.calculatePath(0, end);
+
+            assertEquals(pathLength(grid, DijkstraPathCalculator.FACTORY.create(grid).calculatePath(0, end)),
+                pathLength(grid, path));
+
+            uninformed.calculatePath(0, end);
+            assertTrue(calculator.getSettledCount() <= uninformed.getSettledCount());
+        }
+    }
+
+    /**
+     * Creates a grid graph in which node {@code i} is at position {@code (10 * (i % GRID_SIZE), 10 * (i / GRID_SIZE))}
+     * and every edge connects two neighboring positions with a weight of at least {@code 10}.
+     *
+     * @param random the source of randomness for the weights.
+     * @return the grid graph.
+     */
+    private static Graph<Integer> grid(Random random) {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
+            nodes.add(i);
+
+            if (i % GRID_SIZE > 0) {
+                edges.add(Edge.of(i, i - 1, 10 + random.nextInt(10)));
+                edges.add(Edge.of(i - 1, i, 10 + random.nextInt(10)));
+            }
+            if (i >= GRID_SIZE) {
+                edges.add(Edge.of(i, i - GRID_SIZE, 10 + random.nextInt(10)));
+                edges.add(Edge.of(i - GRID_SIZE, i, 10 + random.nextInt(10)));
+            }
+        }
+
+        return Graph.of(nodes, edges);
+    }
+}
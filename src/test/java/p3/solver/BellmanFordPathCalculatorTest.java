@@ -0,0 +1,136 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for the early-exit mode of {@link BellmanFordPathCalculator} and for {@link SpfaPathCalculator}.
+ */
+public class BellmanFordPathCalculatorTest {
+
+    private final Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", -2),
+        Edge.of("B", "D", 3),
+        Edge.of("C", "D", 5)
+    ));
+
+    private final Graph<String> cyclicGraph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+        Edge.of("A", "B", 1),
+        Edge.of("B", "C", -3),
+        Edge.of("C", "B", 1),
+        Edge.of("C", "D", 1)
+    ));
+
+    @Test
+    public void testShortestPath() {
+        for (PathCalculator.Factory factory : List.of(BellmanFordPathCalculator.EARLY_EXIT_FACTORY,
+            SpfaPathCalculator.FACTORY)) {
+            assertEquals(List.of("A", "C", "B", "D"), factory.create(graph).calculatePath("A", "D"));
+        }
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        for (PathCalculator.Factory factory : List.of(BellmanFordPathCalculator.EARLY_EXIT_FACTORY,
+            SpfaPathCalculator.FACTORY)) {
+            assertThrows(CycleException.class, () -> factory.create(cyclicGraph).calculatePath("A", "D"));
+        }
+    }
+
+    @Test
+    public void testEarlyExitStopsAfterConvergence() {
+        Graph<Integer> star = Graph.of(Set.of(0, 1, 2, 3, 4), Set.of(
+            Edge.of(0, 1, 1),
+            Edge.of(0, 2, 1),
+            Edge.of(0, 3, 1),
+            Edge.of(0, 4, 1)
+        ));
+        BellmanFordPathCalculator<Integer> calculator = new BellmanFordPathCalculator<>(star, true);
+
+        assertEquals(List.of(0, 4), calculator.calculatePath(0, 4));
+        assertTrue(calculator.converged);
+        assertEquals(4, calculator.relaxations);
+    }
+
+    @Test
+    public void testSameLengthAsBellmanFord() {
+        Random random = new Random(9);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> randomGraph = randomGraph(random, 30, 60, 5);
+
+            for (int end = 0; end < 30; end += 7) {
+                int expected = pathLength(randomGraph,
+                    BellmanFordPathCalculator.FACTORY.create(randomGraph).calculatePath(0, end));
+
+                assertEquals(expected, pathLength(randomGraph,
+                    BellmanFordPathCalculator.EARLY_EXIT_FACTORY.create(randomGraph).calculatePath(0, end)));
+                assertEquals(expected, pathLength(randomGraph,
+                    SpfaPathCalculator.FACTORY.create(randomGraph).calculatePath(0, end)));
+            }
+        }
+    }
+
+    @Test
+    public void testDoesNotCollectEdges() {
+        Graph<String> adjacentOnly = new AdjacentOnlyGraph<>(graph);
+
+        for (PathCalculator.Factory factory : List.of(BellmanFordPathCalculator.FACTORY,
+            BellmanFordPathCalculator.EARLY_EXIT_FACTORY)) {
+            assertEquals(List.of("A", "C", "B", "D"), factory.create(adjacentOnly).calculatePath("A", "D"));
+        }
+        assertThrows(CycleException.class,
+            () -> BellmanFordPathCalculator.FACTORY.create(new AdjacentOnlyGraph<>(cyclicGraph)).calculatePath("A", "D"));
+    }
+
+    /**
+     * A {@link Graph} that delegates to another graph, but fails if its edges are collected into sets.
+     *
+     * @param delegate the graph to delegate to.
+     * @param <N>      the type of the nodes in the graph.
+     */
+    private record AdjacentOnlyGraph<N>(Graph<N> delegate) implements Graph<N> {
+
+        @Override
+        public Set<N> getNodes() {
+            return delegate.getNodes();
+        }
+
+        @Override
+        public Set<Edge<N>> getEdges() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<Edge<N>> getOutgoingEdges(N node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<Edge<N>> getIngoingEdges(N node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachAdjacent(N node, ObjIntConsumer<? super N> action) {
+            delegate.forEachAdjacent(node, action);
+        }
+
+        @Override
+        public Edge<N> getEdge(N from, N to) {
+            return delegate.getEdge(from, to);
+        }
+    }
+}
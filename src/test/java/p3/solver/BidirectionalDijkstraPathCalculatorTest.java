@@ -0,0 +1,78 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link BidirectionalDijkstraPathCalculator}.
+ */
+public class BidirectionalDijkstraPathCalculatorTest {
+
+    @Test
+    public void testShortestPath() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 1),
+            Edge.of("C", "B", 2),
+            Edge.of("B", "D", 1),
+            Edge.of("C", "D", 5)
+        ));
+        PathCalculator<String> calculator = BidirectionalDijkstraPathCalculator.FACTORY.create(graph);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+        assertEquals(List.of("A", "C"), calculator.calculatePath("A", "C"));
+        assertEquals(List.of("B"), calculator.calculatePath("B", "B"));
+        assertEquals(List.of(), calculator.calculatePath("D", "A"));
+        assertEquals(List.of(), calculator.calculatePath("A", "E"));
+    }
+
+    @Test
+    public void testSameLengthAsDijkstra() {
+        Random random = new Random(23);
+
+        for (int run = 0; run < 10; run++) {
+            Graph<Integer> graph = randomGraph(random, 200, 600, 0);
+            PathCalculator<Integer> calculator = BidirectionalDijkstraPathCalculator.FACTORY.create(graph);
+
+            for (int end = 0; end < 200; end += 13) {
+                assertEquals(
+                    pathLength(graph, DijkstraPathCalculator.FACTORY.create(graph).calculatePath(0, end)),
+                    pathLength(graph, calculator.calculatePath(0, end))
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testSettlesFewerNodesOnPath() {
+        // A long undirected path 0 - 1 - ... - 999, queried from one end to the middle
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            nodes.add(i);
+            if (i > 0) {
+                edges.add(Edge.of(i - 1, i, 1));
+                edges.add(Edge.of(i, i - 1, 1));
+            }
+        }
+
+        Graph<Integer> graph = Graph.of(nodes, edges);
+        DijkstraPathCalculator<Integer> dijkstra = new DijkstraPathCalculator<>(graph);
+        BidirectionalDijkstraPathCalculator<Integer> bidirectional = new BidirectionalDijkstraPathCalculator<>(graph);
+
+        assertEquals(dijkstra.calculatePath(500, 800), bidirectional.calculatePath(500, 800));
+        assertEquals(301, bidirectional.calculatePath(500, 800).size());
+        assertTrue(bidirectional.getSettledCount() < dijkstra.getSettledCount());
+    }
+}
@@ -0,0 +1,110 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.HeapPrimMSTCalculatorTest.distinctWeightGraph;
+import static p3.solver.HeapPrimMSTCalculatorTest.randomGraph;
+import static p3.solver.HeapPrimMSTCalculatorTest.totalWeight;
+import static p3.solver.HeapPrimMSTCalculatorTest.undirected;
+
+/**
+ * Tests for {@link BoruvkaMSTCalculator}.
+ */
+public class BoruvkaMSTCalculatorTest {
+
+    @Test
+    public void testSmallGraph() {
+        Graph<String> graph = undirected(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", 2),
+            Edge.of("A", "C", 3),
+            Edge.of("C", "D", 4),
+            Edge.of("B", "D", 5)
+        ));
+
+        Graph<String> mst = BoruvkaMSTCalculator.FACTORY.create(graph).calculateMST("A");
+
+        assertEquals(graph.getNodes(), mst.getNodes());
+        assertEquals(7, totalWeight(mst));
+        assertEquals(3, mst.getEdges().size());
+    }
+
+    @Test
+    public void testSameWeightAsPrim() {
+        Random random = new Random(11);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = randomGraph(random, 30, 60);
+
+            assertEquals(
+                totalWeight(PrimMSTCalculator.FACTORY.create(graph).calculateMST(0)),
+                totalWeight(BoruvkaMSTCalculator.FACTORY.create(graph).calculateMST(0))
+            );
+        }
+    }
+
+    @Test
+    public void testSameEdgesAsPrim() {
+        Random random = new Random(12);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = distinctWeightGraph(random, 30, 60);
+
+            assertEquals(
+                PrimMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges(),
+                BoruvkaMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges()
+            );
+        }
+    }
+
+    @Test
+    public void testLargeGraphInCustomPool() {
+        Graph<Integer> graph = randomGraph(new Random(3), 5000, 20000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            Graph<Integer> mst = BoruvkaMSTCalculator.factory(pool).create(graph).calculateMST(0);
+
+            assertEquals(4999, mst.getEdges().size());
+            assertEquals(totalWeight(KruskalMSTCalculator.FACTORY.create(graph).calculateMST(0)), totalWeight(mst));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsymmetricWeights() {
+        Graph<String> graph = Graph.of(Set.of("a", "b", "c"), Set.of(
+            Edge.of("a", "b", 1),
+            Edge.of("b", "a", 100),
+            Edge.of("b", "c", 2),
+            Edge.of("c", "a", 3)
+        ));
+
+        Graph<String> tree = BoruvkaMSTCalculator.FACTORY.create(graph).calculateMST("b");
+
+        assertEquals(Set.of(Edge.of("a", "b", 1), Edge.of("b", "c", 2)), tree.getEdges());
+        assertEquals(3, totalWeight(tree));
+    }
+
+    @Test
+    public void testSpanningForest() {
+        Graph<Integer> graph = undirected(Set.of(1, 2, 3, 4, 5), Set.of(
+            Edge.of(1, 2, 3),
+            Edge.of(2, 3, 1),
+            Edge.of(4, 5, 7)
+        ));
+
+        Graph<Integer> forest = BoruvkaMSTCalculator.FACTORY.create(graph).calculateMST(1);
+
+        assertEquals(3, forest.getEdges().size());
+        assertEquals(11, totalWeight(forest));
+    }
+}
@@ -0,0 +1,87 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.MutableGraph;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CachingPathCalculator}.
+ */
+public class CachingPathCalculatorTest {
+
+    private final MutableGraph<String> graph = MutableGraph.of(Set.of("A", "B", "C", "D"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", 2),
+        Edge.of("B", "D", 1),
+        Edge.of("D", "A", 3)
+    ));
+
+    @Test
+    public void testHitsAndMisses() {
+        CachingPathCalculator<String> calculator = new CachingPathCalculator<>(graph,
+            DijkstraPathCalculator.FACTORY.create(graph), 100);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+        assertEquals(List.of("A", "C", "B"), calculator.calculatePath("A", "B"));
+        assertEquals(List.of("B", "D"), calculator.calculatePath("B", "D"));
+        assertEquals(List.of("A", "C"), calculator.calculatePath("A", "C"));
+
+        assertEquals(2, calculator.getMissCount());
+        assertEquals(2, calculator.getHitCount());
+        assertEquals(2, calculator.getCachedTreeCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        // Room for two trees of four nodes each
+        CachingPathCalculator<String> calculator = new CachingPathCalculator<>(graph,
+            BellmanFordPathCalculator.FACTORY.create(graph), 8);
+
+        calculator.calculateFrom("A");
+        calculator.calculateFrom("B");
+        calculator.calculateFrom("A");
+        calculator.calculateFrom("C");
+
+        assertEquals(2, calculator.getCachedTreeCount());
+        assertEquals(1, calculator.getEvictionCount());
+
+        // "B" was evicted, "A" is still cached
+        calculator.calculateFrom("A");
+        calculator.calculateFrom("B");
+
+        assertEquals(2, calculator.getHitCount());
+        assertEquals(4, calculator.getMissCount());
+    }
+
+    @Test
+    public void testInvalidationOnModification() {
+        CachingPathCalculator<String> calculator = new CachingPathCalculator<>(graph,
+            DijkstraPathCalculator.FACTORY.create(graph), 100);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+
+        graph.addEdge("A", "D", 1);
+        assertEquals(List.of("A", "D"), calculator.calculatePath("A", "D"));
+
+        graph.addNodesAndEdge("D", "E", 1);
+        assertEquals(List.of("A", "D", "E"), calculator.calculatePath("A", "E"));
+
+        assertEquals(3, calculator.getMissCount());
+        assertEquals(0, calculator.getHitCount());
+    }
+
+    @Test
+    public void testFactory() {
+        PathCalculator<String> calculator = CachingPathCalculator.factory(SpfaPathCalculator.FACTORY, 100)
+            .create(graph);
+
+        assertEquals(List.of("D", "A", "C"), calculator.calculatePath("D", "C"));
+        assertEquals(3, calculator.calculateFrom("D").distanceTo("A"));
+    }
+}
@@ -0,0 +1,155 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.MutableGraph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link ContractionHierarchy} and {@link ContractionHierarchyPathCalculator}.
+ */
+public class ContractionHierarchyPathCalculatorTest {
+
+    private final Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", 2),
+        Edge.of("B", "D", 1),
+        Edge.of("C", "D", 5)
+    ));
+
+    @Test
+    public void testShortestPath() {
+        PathCalculator<String> calculator = ContractionHierarchyPathCalculator.FACTORY.create(graph);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+        assertEquals(List.of("C", "B"), calculator.calculatePath("C", "B"));
+        assertEquals(List.of("A"), calculator.calculatePath("A", "A"));
+        assertEquals(List.of(), calculator.calculatePath("D", "A"));
+        assertEquals(List.of(), calculator.calculatePath("A", "E"));
+    }
+
+    @Test
+    public void testUnpackedPathsMatchDijkstra() {
+        Random random = new Random(29);
+
+        for (int run = 0; run < 10; run++) {
+            Graph<Integer> randomGraph = randomGraph(random, 150, 500, 0);
+            PathCalculator<Integer> calculator = ContractionHierarchyPathCalculator.FACTORY.create(randomGraph);
+
+            for (int start = 0; start < 150; start += 31) {
+                for (int end = 0; end < 150; end += 7) {
+                    List<Integer> path = calculator.calculatePath(start, end);
+                    List<Integer> expected = DijkstraPathCalculator.FACTORY.create(randomGraph).calculatePath(start, end);
+
+                    assertEquals(expected.isEmpty(), path.isEmpty());
+                    if (!path.isEmpty()) {
+                        assertEquals(start, (int) path.get(0));
+                        assertEquals(end, (int) path.get(path.size() - 1));
+                        assertEquals(pathLength(randomGraph, expected), pathLength(randomGraph, path));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException {
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(graph);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        hierarchy.writeTo(new DataOutputStream(bytes), (out, node) -> out.writeUTF(node));
+
+        ContractionHierarchy<String> copy = ContractionHierarchy.readFrom(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), DataInput::readUTF);
+
+        assertEquals(hierarchy.size(), copy.size());
+        assertEquals(hierarchy.shortcutCount(), copy.shortcutCount());
+        for (String node : graph.getNodes()) {
+            assertEquals(hierarchy.rankOf(node), copy.rankOf(node));
+        }
+        assertEquals(List.of("A", "C", "B", "D"),
+            new ContractionHierarchyPathCalculator<>(graph, copy).calculatePath("A", "D"));
+    }
+
+    @Test
+    public void testCorruptSerialization() throws IOException {
+        ContractionHierarchy<String> hierarchy = ContractionHierarchy.build(graph);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        hierarchy.writeTo(new DataOutputStream(bytes), (out, node) -> out.writeUTF(node));
+
+        // The last value is the middle node of the last downward edge
+        byte[] corrupt = bytes.toByteArray();
+        corrupt[corrupt.length - 2] = 0x10;
+
+        assertThrows(IOException.class, () -> ContractionHierarchy.readFrom(
+            new DataInputStream(new ByteArrayInputStream(corrupt)), DataInput::readUTF));
+
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 4);
+
+        assertThrows(IOException.class, () -> ContractionHierarchy.readFrom(
+            new DataInputStream(new ByteArrayInputStream(truncated)), DataInput::readUTF));
+    }
+
+    @Test
+    public void testRebuildAfterModification() {
+        MutableGraph<String> mutableGraph = MutableGraph.of(graph.getNodes(), graph.getEdges());
+        ContractionHierarchyPathCalculator<String> calculator = new ContractionHierarchyPathCalculator<>(mutableGraph);
+        ContractionHierarchy<String> hierarchy = calculator.getHierarchy();
+
+        assertSame(hierarchy, calculator.getHierarchy());
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+
+        mutableGraph.addEdge("D", "E", 1);
+
+        assertNotSame(hierarchy, calculator.getHierarchy());
+        assertEquals(List.of("A", "C", "B", "D", "E"), calculator.calculatePath("A", "E"));
+    }
+
+    @Test
+    public void testSettlesFewerNodesOnGrid() {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+        Random random = new Random(31);
+        int width = 30;
+
+        for (int i = 0; i < width * width; i++) {
+            nodes.add(i);
+            if (i % width > 0) {
+                int weight = 1 + random.nextInt(9);
+                edges.add(Edge.of(i, i - 1, weight));
+                edges.add(Edge.of(i - 1, i, weight));
+            }
+            if (i >= width) {
+                int weight = 1 + random.nextInt(9);
+                edges.add(Edge.of(i, i - width, weight));
+                edges.add(Edge.of(i - width, i, weight));
+            }
+        }
+
+        Graph<Integer> grid = Graph.of(nodes, edges);
+        ContractionHierarchyPathCalculator<Integer> calculator = new ContractionHierarchyPathCalculator<>(grid);
+        DijkstraPathCalculator<Integer> dijkstra = new DijkstraPathCalculator<>(grid);
+        int end = width * width - 1;
+
+        assertEquals(pathLength(grid, dijkstra.calculatePath(0, end)), pathLength(grid, calculator.calculatePath(0, end)));
+        assertTrue(calculator.getSettledCount() < dijkstra.getSettledCount());
+    }
+}
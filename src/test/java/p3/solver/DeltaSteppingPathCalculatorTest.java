@@ -0,0 +1,86 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link DeltaSteppingPathCalculator}.
+ */
+public class DeltaSteppingPathCalculatorTest {
+
+    private final Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", 2),
+        Edge.of("B", "D", 1),
+        Edge.of("C", "D", 5),
+        Edge.of("D", "A", 0)
+    ));
+
+    @Test
+    public void testShortestPath() {
+        for (int delta : new int[] {DeltaSteppingPathCalculator.AUTOMATIC_DELTA, 1, 2, 100}) {
+            PathCalculator<String> calculator = DeltaSteppingPathCalculator.factory(delta, ForkJoinPool.commonPool())
+                .create(graph);
+
+            assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+            assertEquals(List.of(), calculator.calculatePath("A", "E"));
+        }
+    }
+
+    @Test
+    public void testCalculateDistances() {
+        List<String> nodes = new ArrayList<>(graph.getNodes());
+        int[] distances = new DeltaSteppingPathCalculator<>(graph).calculateDistances("B");
+
+        assertEquals(nodes.size(), distances.length);
+        assertEquals(1, distances[nodes.indexOf("A")]);
+        assertEquals(0, distances[nodes.indexOf("B")]);
+        assertEquals(2, distances[nodes.indexOf("C")]);
+        assertEquals(1, distances[nodes.indexOf("D")]);
+        assertEquals(Integer.MAX_VALUE, distances[nodes.indexOf("E")]);
+    }
+
+    @Test
+    public void testInvalidDelta() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new DeltaSteppingPathCalculator<>(graph, -1, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void testSameLengthAsDijkstra() {
+        Random random = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int run = 0; run < 5; run++) {
+                Graph<Integer> randomGraph = randomGraph(random, 2000, 10000, 0);
+
+                for (int delta : new int[] {DeltaSteppingPathCalculator.AUTOMATIC_DELTA, 3, 50}) {
+                    PathCalculator<Integer> calculator = DeltaSteppingPathCalculator.factory(delta, pool)
+                        .create(randomGraph);
+
+                    for (int end = 0; end < 2000; end += 331) {
+                        assertEquals(
+                            pathLength(randomGraph, DijkstraPathCalculator.FACTORY.create(randomGraph).calculatePath(0, end)),
+                            pathLength(randomGraph, calculator.calculatePath(0, end))
+                        );
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
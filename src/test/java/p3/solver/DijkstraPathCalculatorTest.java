@@ -0,0 +1,101 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DijkstraPathCalculator}.
+ */
+public class DijkstraPathCalculatorTest {
+
+    private final Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", 2),
+        Edge.of("B", "D", 1),
+        Edge.of("C", "D", 5),
+        Edge.of("D", "A", 1)
+    ));
+
+    @Test
+    public void testShortestPath() {
+        PathCalculator<String> calculator = DijkstraPathCalculator.FACTORY.create(graph);
+
+        assertEquals(List.of("A", "C", "B", "D"), calculator.calculatePath("A", "D"));
+        assertEquals(List.of("B", "D", "A", "C"), calculator.calculatePath("B", "C"));
+        assertEquals(List.of("A"), calculator.calculatePath("A", "A"));
+    }
+
+    @Test
+    public void testUnreachable() {
+        assertEquals(List.of(), DijkstraPathCalculator.FACTORY.create(graph).calculatePath("A", "E"));
+    }
+
+    @Test
+    public void testNegativeWeight() {
+        Graph<Integer> negative = Graph.of(Set.of(1, 2), Set.of(Edge.of(1, 2, -1)));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> DijkstraPathCalculator.FACTORY.create(negative).calculatePath(1, 2));
+    }
+
+    @Test
+    public void testSameLengthAsBellmanFord() {
+        Random random = new Random(5);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> randomGraph = randomGraph(random, 40, 150, 0);
+
+            for (int end = 0; end < 40; end += 7) {
+                assertEquals(
+                    pathLength(randomGraph, BellmanFordPathCalculator.FACTORY.create(randomGraph).calculatePath(0, end)),
+                    pathLength(randomGraph, DijkstraPathCalculator.FACTORY.create(randomGraph).calculatePath(0, end))
+                );
+            }
+        }
+    }
+
+    /**
+     * Creates a random directed graph whose nodes are all reachable from node {@code 0}.
+     *
+     * @param random    the source of randomness.
+     * @param nodeCount the number of nodes.
+     * @param edgeCount the number of additional random edges.
+     * @param minWeight the smallest possible weight of an edge.
+     * @return the random graph.
+     */
+    static Graph<Integer> randomGraph(Random random, int nodeCount, int edgeCount, int minWeight) {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(i);
+            if (i > 0) {
+                edges.add(Edge.of(random.nextInt(i), i, minWeight + random.nextInt(100)));
+            }
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            edges.add(Edge.of(random.nextInt(nodeCount), random.nextInt(nodeCount), minWeight + random.nextInt(100)));
+        }
+
+        return Graph.of(nodes, edges);
+    }
+
+    static <N> int pathLength(Graph<N> graph, List<N> path) {
+        int length = 0;
+
+        for (int i = 1; i < path.size(); i++) {
+            length += graph.getEdge(path.get(i - 1), path.get(i)).weight();
+        }
+
+        return length;
+    }
+}
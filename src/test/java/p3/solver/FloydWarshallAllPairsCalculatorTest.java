@@ -0,0 +1,86 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+import static p3.solver.JohnsonAllPairsCalculatorTest.withPotentials;
+
+/**
+ * Tests for {@link FloydWarshallAllPairsCalculator}.
+ */
+public class FloydWarshallAllPairsCalculatorTest {
+
+    @Test
+    public void testNegativeWeights() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 2),
+            Edge.of("C", "B", -3),
+            Edge.of("B", "D", 1)
+        ));
+        DistanceMatrix<String> matrix = FloydWarshallAllPairsCalculator.FACTORY.create(graph).calculateAllPairs();
+
+        assertEquals(-1, matrix.distance("A", "B"));
+        assertEquals(0, matrix.distance("A", "D"));
+        assertFalse(matrix.isReachable("D", "A"));
+        assertEquals(List.of("A", "C", "B", "D"), matrix.pathTo("A", "D"));
+        assertEquals(List.of(), matrix.pathTo("D", "A"));
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", -2),
+            Edge.of("C", "B", 1)
+        ));
+
+        assertThrows(CycleException.class,
+            () -> FloydWarshallAllPairsCalculator.FACTORY.create(graph).calculateAllPairs());
+    }
+
+    @Test
+    public void testNegativeCycleAcrossBlocks() {
+        Random random = new Random(22);
+        Graph<Integer> graph = randomGraph(random, 3 * FloydWarshallAllPairsCalculator.BLOCK_SIZE, 2000, -10);
+
+        assertThrows(CycleException.class,
+            () -> FloydWarshallAllPairsCalculator.FACTORY.create(graph).calculateAllPairs());
+    }
+
+    @Test
+    public void testMatchesJohnson() {
+        Random random = new Random(22);
+        int size = 2 * FloydWarshallAllPairsCalculator.BLOCK_SIZE + 17;
+        Graph<Integer> graph = withPotentials(randomGraph(random, size, 6 * size, 0), random);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        DistanceMatrix<Integer> matrix;
+        DistanceMatrix<Integer> expected;
+
+        try {
+            matrix = FloydWarshallAllPairsCalculator.factory(true, pool).create(graph).calculateAllPairs();
+            expected = JohnsonAllPairsCalculator.factory(false, pool).create(graph).calculateAllPairs();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(expected.toArray(), matrix.toArray());
+
+        for (int from = 0; from < size; from += 7) {
+            for (int to = 0; to < size; to++) {
+                if (matrix.isReachable(from, to)) {
+                    assertEquals(matrix.distance(from, to), pathLength(graph, matrix.pathTo(from, to)));
+                }
+            }
+        }
+    }
+}
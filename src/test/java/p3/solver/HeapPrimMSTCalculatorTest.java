@@ -0,0 +1,131 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HeapPrimMSTCalculator}.
+ */
+public class HeapPrimMSTCalculatorTest {
+
+    @Test
+    public void testSmallGraph() {
+        Graph<String> graph = undirected(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", 2),
+            Edge.of("A", "C", 3),
+            Edge.of("C", "D", 4),
+            Edge.of("B", "D", 5)
+        ));
+
+        Graph<String> mst = HeapPrimMSTCalculator.FACTORY.create(graph).calculateMST("A");
+
+        assertEquals(graph.getNodes(), mst.getNodes());
+        assertEquals(Set.of(Edge.of("A", "B", 1), Edge.of("B", "C", 2), Edge.of("C", "D", 4)), mst.getEdges());
+    }
+
+    @Test
+    public void testSameWeightAsPrim() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = randomGraph(random, 30, 80);
+
+            assertEquals(
+                totalWeight(PrimMSTCalculator.FACTORY.create(graph).calculateMST(0)),
+                totalWeight(HeapPrimMSTCalculator.FACTORY.create(graph).calculateMST(0))
+            );
+        }
+    }
+
+    @Test
+    public void testSameEdgesAsPrim() {
+        Random random = new Random(43);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = distinctWeightGraph(random, 30, 60);
+
+            assertEquals(
+                PrimMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges(),
+                HeapPrimMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges()
+            );
+        }
+    }
+
+    @Test
+    public void testUnknownRoot() {
+        Graph<Integer> graph = Graph.of(Set.of(1, 2), Set.of(Edge.of(1, 2, 1)));
+
+        assertThrows(IllegalArgumentException.class, () -> HeapPrimMSTCalculator.FACTORY.create(graph).calculateMST(3));
+    }
+
+    static Graph<Integer> randomGraph(Random random, int nodeCount, int edgeCount) {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(i);
+            if (i > 0) {
+                edges.add(Edge.of(random.nextInt(i), i, random.nextInt(100)));
+            }
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            edges.add(Edge.of(random.nextInt(nodeCount), random.nextInt(nodeCount), random.nextInt(100)));
+        }
+
+        return undirected(nodes, edges);
+    }
+
+    static Graph<Integer> distinctWeightGraph(Random random, int nodeCount, int edgeCount) {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+        List<Integer> weights = new ArrayList<>();
+
+        for (int i = 0; i < nodeCount + edgeCount; i++) {
+            weights.add(i - edgeCount);
+        }
+        Collections.shuffle(weights, random);
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(i);
+            if (i > 0) {
+                edges.add(Edge.of(random.nextInt(i), i, weights.get(i)));
+            }
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            edges.add(Edge.of(random.nextInt(nodeCount), random.nextInt(nodeCount), weights.get(nodeCount + i)));
+        }
+
+        return undirected(nodes, edges);
+    }
+
+    static <N> Graph<N> undirected(Set<N> nodes, Set<Edge<N>> edges) {
+        Set<Edge<N>> symmetricEdges = new HashSet<>();
+
+        for (Edge<N> edge : edges) {
+            // Keep only one weight per pair of nodes, so that both directions have the same weight
+            Edge<N> reversed = Edge.of(edge.to(), edge.from(), edge.weight());
+
+            if (!symmetricEdges.contains(edge) && !symmetricEdges.contains(reversed)) {
+                symmetricEdges.add(edge);
+                symmetricEdges.add(reversed);
+            }
+        }
+
+        return Graph.of(nodes, symmetricEdges);
+    }
+
+    static int totalWeight(Graph<?> graph) {
+        return graph.getEdges().stream().mapToInt(Edge::weight).sum();
+    }
+}
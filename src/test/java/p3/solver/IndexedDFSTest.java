@@ -0,0 +1,81 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.AdjacencyGraph;
+import p3.graph.AdjacencyList;
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.MutableGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link IndexedDFS}.
+ */
+public class IndexedDFSTest {
+
+    @Test
+    public void testSameAsRecursive() {
+        Random random = new Random(24);
+
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer> graph = randomGraph(random, 200, 300, 1);
+            DFS<Integer> recursive = new DFS<>(graph);
+            IndexedDFS<Integer> indexed = new IndexedDFS<>(graph);
+            List<Integer> expected = finishOrder(recursive);
+
+            // The second traversal reuses the buffers of the first one
+            for (int run = 0; run < 2; run++) {
+                assertEquals(expected, finishOrder(indexed));
+                assertEquals(recursive.isCyclic(), indexed.isCyclic());
+
+                for (Integer node : graph.getNodes()) {
+                    assertEquals((int) recursive.discoveryTimes.get(node), indexed.getDiscoveryTime(node));
+                    assertEquals((int) recursive.finishTimes.get(node), indexed.getFinishTime(node));
+                    assertEquals(recursive.predecessors.get(node), indexed.getPredecessor(node));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGraphModification() {
+        MutableGraph<String> graph = new AdjacencyGraph<>(Set.of("A", "B"), Set.of(Edge.of("A", "B", 1)),
+            AdjacencyList.FACTORY);
+        IndexedDFS<String> dfs = new IndexedDFS<>(graph);
+
+        assertThrows(IllegalStateException.class, () -> dfs.getFinishTime("A"));
+
+        finishOrder(dfs);
+        assertFalse(dfs.isCyclic());
+
+        graph.addNode("C");
+        graph.addEdge(Edge.of("B", "C", 1));
+        graph.addEdge(Edge.of("C", "A", 1));
+
+        assertEquals(3, finishOrder(dfs).size());
+        assertTrue(dfs.isCyclic());
+        assertThrows(IllegalArgumentException.class, () -> dfs.getFinishTime("D"));
+    }
+
+    /**
+     * Traverses the graph with the given traverser and returns the nodes in the order they were passed to the consumer.
+     *
+     * @param traverser the traverser to use.
+     * @param <N>       the type of the nodes in the graph.
+     * @return the nodes in the order they were finished.
+     */
+    private static <N> List<N> finishOrder(GraphTraverser<N> traverser) {
+        List<N> order = new ArrayList<>();
+
+        traverser.traverse((node, time) -> order.add(node));
+
+        return order;
+    }
+}
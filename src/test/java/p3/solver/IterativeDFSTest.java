@@ -0,0 +1,91 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.AdjacencyGraph;
+import p3.graph.AdjacencyList;
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.MutableGraph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link IterativeDFS}.
+ */
+public class IterativeDFSTest {
+
+    @Test
+    public void testSameAsRecursive() {
+        Random random = new Random(23);
+
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer> graph = randomGraph(random, 200, 300, 1);
+            DFS<Integer> recursive = new DFS<>(graph);
+            IterativeDFS<Integer> iterative = new IterativeDFS<>(graph);
+
+            assertEquals(finishOrder(recursive), finishOrder(iterative));
+            assertEquals(recursive.discoveryTimes, iterative.discoveryTimes);
+            assertEquals(recursive.finishTimes, iterative.finishTimes);
+            assertEquals(recursive.predecessors, iterative.predecessors);
+            assertEquals(recursive.isCyclic(), iterative.isCyclic());
+        }
+    }
+
+    @Test
+    public void testLongChain() {
+        int length = 100_000;
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < length; i++) {
+            nodes.add(i);
+            if (i > 0) {
+                edges.add(Edge.of(i - 1, i, 1));
+            }
+        }
+
+        IterativeDFS<Integer> dfs = new IterativeDFS<>(Graph.of(nodes, edges));
+        List<Integer> order = finishOrder(dfs);
+
+        assertEquals(length, order.size());
+        assertEquals(length - 1, (int) order.get(0));
+        assertEquals(2 * length, (int) dfs.finishTimes.get(0));
+        assertFalse(dfs.isCyclic());
+    }
+
+    @Test
+    public void testGraphModification() {
+        MutableGraph<String> graph = new AdjacencyGraph<>(Set.of("A", "B"), Set.of(Edge.of("A", "B", 1)),
+            AdjacencyList.FACTORY);
+        IterativeDFS<String> dfs = new IterativeDFS<>(graph);
+
+        finishOrder(dfs);
+        assertFalse(dfs.isCyclic());
+
+        graph.addEdge(Edge.of("B", "A", 1));
+        finishOrder(dfs);
+        assertTrue(dfs.isCyclic());
+    }
+
+    /**
+     * Traverses the graph with the given traverser and returns the nodes in the order they were passed to the consumer.
+     *
+     * @param traverser the traverser to use.
+     * @param <N>       the type of the nodes in the graph.
+     * @return the nodes in the order they were finished.
+     */
+    private static <N> List<N> finishOrder(GraphTraverser<N> traverser) {
+        List<N> order = new ArrayList<>();
+
+        traverser.traverse((node, time) -> order.add(node));
+
+        return order;
+    }
+}
@@ -0,0 +1,113 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link JohnsonAllPairsCalculator} and {@link DistanceMatrix}.
+ */
+public class JohnsonAllPairsCalculatorTest {
+
+    @Test
+    public void testNegativeWeights() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 2),
+            Edge.of("C", "B", -3),
+            Edge.of("B", "D", 1)
+        ));
+        DistanceMatrix<String> matrix = JohnsonAllPairsCalculator.FACTORY.create(graph).calculateAllPairs();
+
+        assertEquals(4, matrix.size());
+        assertEquals(-1, matrix.distance("A", "B"));
+        assertEquals(0, matrix.distance("A", "D"));
+        assertEquals(-2, matrix.distance("C", "D"));
+        assertEquals(0, matrix.distance("D", "D"));
+        assertFalse(matrix.isReachable("D", "A"));
+        assertEquals(List.of("A", "C", "B", "D"), matrix.pathTo("A", "D"));
+        assertEquals(List.of("B"), matrix.pathTo("B", "B"));
+        assertEquals(List.of(), matrix.pathTo("D", "A"));
+        assertThrows(IllegalArgumentException.class, () -> matrix.distance("A", "E"));
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", -2),
+            Edge.of("C", "B", 1)
+        ));
+
+        assertThrows(CycleException.class, () -> JohnsonAllPairsCalculator.FACTORY.create(graph).calculateAllPairs());
+    }
+
+    @Test
+    public void testWithoutPaths() {
+        Graph<Integer> graph = randomGraph(new Random(21), 30, 100, 0);
+        DistanceMatrix<Integer> matrix = JohnsonAllPairsCalculator.factory(false, ForkJoinPool.commonPool())
+            .create(graph).calculateAllPairs();
+
+        assertFalse(matrix.hasPaths());
+        assertThrows(IllegalStateException.class, () -> matrix.pathTo(0, 1));
+        assertEquals(30 * 30, matrix.toArray().length);
+    }
+
+    @Test
+    public void testMatchesBellmanFord() {
+        Random random = new Random(21);
+        Graph<Integer> graph = withPotentials(randomGraph(random, 120, 500, 0), random);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        DistanceMatrix<Integer> matrix;
+
+        try {
+            matrix = JohnsonAllPairsCalculator.factory(true, pool).create(graph).calculateAllPairs();
+        } finally {
+            pool.shutdown();
+        }
+
+        BellmanFordPathCalculator<Integer> bellmanFord = new BellmanFordPathCalculator<>(graph, true);
+
+        for (int from = 0; from < 120; from++) {
+            ShortestPathTree<Integer> tree = bellmanFord.calculateFrom(from);
+
+            for (int to = 0; to < 120; to++) {
+                assertEquals(tree.distanceTo(to), matrix.distance(from, to));
+
+                if (tree.isReachable(to)) {
+                    assertEquals(matrix.distance(from, to), pathLength(graph, matrix.pathTo(from, to)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the given graph in which the weight of every edge {@code (u, v)} is changed by
+     * {@code p(v) - p(u)} for a random potential {@code p}. This introduces negative weights but keeps the length of
+     * every cycle, so the result has no negative cycle if the given graph has none.
+     *
+     * @param graph  the graph to copy.
+     * @param random the source of randomness for the potentials.
+     * @return the graph with the changed weights.
+     */
+    static Graph<Integer> withPotentials(Graph<Integer> graph, Random random) {
+        int[] potentials = random.ints(graph.getNodes().size(), 0, 200).toArray();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (Edge<Integer> edge : graph.getEdges()) {
+            edges.add(Edge.of(edge.from(), edge.to(), edge.weight() - potentials[edge.from()] + potentials[edge.to()]));
+        }
+
+        return Graph.of(graph.getNodes(), edges);
+    }
+}
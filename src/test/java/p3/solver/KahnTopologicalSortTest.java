@@ -0,0 +1,141 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link KahnTopologicalSort}.
+ */
+public class KahnTopologicalSortTest {
+
+    @Test
+    public void testLevels() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+            Edge.of("A", "C", 1),
+            Edge.of("B", "C", 1),
+            Edge.of("C", "D", 1),
+            Edge.of("A", "D", 1)
+        ));
+        List<List<String>> levels = new KahnTopologicalSort<>(graph).sortLevels();
+
+        assertEquals(3, levels.size());
+        assertEquals(Set.of("A", "B", "E"), Set.copyOf(levels.get(0)));
+        assertEquals(List.of("C"), levels.get(1));
+        assertEquals(List.of("D"), levels.get(2));
+        assertEquals(5, new KahnTopologicalSort<>(graph).sort().size());
+    }
+
+    @Test
+    public void testCycle() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", 1),
+            Edge.of("C", "B", 1),
+            Edge.of("C", "D", 1)
+        ));
+
+        assertThrows(CycleException.class, () -> new KahnTopologicalSort<>(graph).sort());
+        assertThrows(CycleException.class, () -> new KahnTopologicalSort<>(
+            Graph.of(Set.of("A"), Set.of(Edge.of("A", "A", 1)))).sortLevels());
+    }
+
+    @Test
+    public void testLateCycle() {
+        // A large acyclic prefix of several levels, the last of which leads into a cycle
+        Graph<Integer> dag = randomDag(new Random(26), 2000, 8000);
+        Set<Integer> nodes = new HashSet<>(dag.getNodes());
+        Set<Edge<Integer>> edges = new HashSet<>(dag.getEdges());
+        List<List<Integer>> levels = new KahnTopologicalSort<>(dag).sortLevels();
+        Integer last = levels.get(levels.size() - 1).get(0);
+
+        nodes.addAll(Set.of(-1, -2));
+        edges.add(Edge.of(last, -1, 1));
+        edges.add(Edge.of(-1, -2, 1));
+        edges.add(Edge.of(-2, -1, 1));
+
+        Graph<Integer> graph = Graph.of(nodes, edges);
+
+        // The sorted levels of the prefix must not be returned as a partial result
+        assertTrue(levels.size() > 2);
+        assertThrows(CycleException.class, () -> new KahnTopologicalSort<>(graph).sortLevels());
+        assertThrows(CycleException.class, () -> new KahnTopologicalSort<>(graph).sort());
+    }
+
+    @Test
+    public void testLargeDag() {
+        Graph<Integer> graph = randomDag(new Random(25), 5000, 20000);
+        ForkJoinPool singlePool = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<List<Integer>> sequential;
+        List<List<Integer>> parallel;
+
+        try {
+            sequential = new KahnTopologicalSort<>(graph, singlePool).sortLevels();
+            parallel = new KahnTopologicalSort<>(graph, pool).sortLevels();
+        } finally {
+            singlePool.shutdown();
+            pool.shutdown();
+        }
+
+        assertEquals(sequential, parallel);
+        assertTrue(parallel.get(0).size() > KahnTopologicalSort.PARALLEL_THRESHOLD);
+
+        Map<Integer, Integer> levelOf = new HashMap<>();
+
+        for (int i = 0; i < parallel.size(); i++) {
+            for (Integer node : parallel.get(i)) {
+                levelOf.put(node, i);
+            }
+        }
+
+        assertEquals(5000, levelOf.size());
+
+        for (Edge<Integer> edge : graph.getEdges()) {
+            assertTrue(levelOf.get(edge.from()) < levelOf.get(edge.to()));
+        }
+
+        List<Integer> sorted = new KahnTopologicalSort<>(graph).sort();
+
+        for (Edge<Integer> edge : graph.getEdges()) {
+            assertTrue(sorted.indexOf(edge.from()) < sorted.indexOf(edge.to()));
+        }
+    }
+
+    /**
+     * Creates a random directed acyclic graph in which every edge leads from a smaller to a larger node.
+     *
+     * @param random    the source of randomness.
+     * @param nodeCount the number of nodes.
+     * @param edgeCount the number of edges to try to add.
+     * @return the random graph.
+     */
+    private static Graph<Integer> randomDag(Random random, int nodeCount, int edgeCount) {
+        Set<Integer> nodes = new HashSet<>();
+        Set<Edge<Integer>> edges = new HashSet<>();
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(i);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            int from = random.nextInt(nodeCount);
+            int to = random.nextInt(nodeCount);
+
+            if (from != to) {
+                edges.add(Edge.of(Math.min(from, to), Math.max(from, to), 1));
+            }
+        }
+
+        return Graph.of(nodes, edges);
+    }
+}
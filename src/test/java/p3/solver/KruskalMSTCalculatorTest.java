@@ -0,0 +1,96 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.HeapPrimMSTCalculatorTest.distinctWeightGraph;
+import static p3.solver.HeapPrimMSTCalculatorTest.randomGraph;
+import static p3.solver.HeapPrimMSTCalculatorTest.totalWeight;
+import static p3.solver.HeapPrimMSTCalculatorTest.undirected;
+
+/**
+ * Tests for {@link KruskalMSTCalculator}.
+ */
+public class KruskalMSTCalculatorTest {
+
+    @Test
+    public void testSmallGraph() {
+        Graph<String> graph = undirected(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", 2),
+            Edge.of("A", "C", 3),
+            Edge.of("C", "D", -4),
+            Edge.of("B", "D", 5)
+        ));
+
+        Graph<String> mst = KruskalMSTCalculator.FACTORY.create(graph).calculateMST("A");
+
+        assertEquals(graph.getNodes(), mst.getNodes());
+        assertEquals(3, mst.getEdges().size());
+        assertEquals(-1, totalWeight(mst));
+    }
+
+    @Test
+    public void testSameWeightAsPrim() {
+        Random random = new Random(7);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = randomGraph(random, 30, 60);
+
+            assertEquals(
+                totalWeight(PrimMSTCalculator.FACTORY.create(graph).calculateMST(0)),
+                totalWeight(KruskalMSTCalculator.FACTORY.create(graph).calculateMST(0))
+            );
+        }
+    }
+
+    @Test
+    public void testSameEdgesAsPrim() {
+        Random random = new Random(8);
+
+        for (int run = 0; run < 20; run++) {
+            Graph<Integer> graph = distinctWeightGraph(random, 30, 60);
+
+            assertEquals(
+                PrimMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges(),
+                KruskalMSTCalculator.FACTORY.create(graph).calculateMST(0).getEdges()
+            );
+        }
+    }
+
+    @Test
+    public void testAsymmetricWeights() {
+        Graph<String> graph = Graph.of(Set.of("a", "b", "c"), Set.of(
+            Edge.of("a", "b", 1),
+            Edge.of("b", "a", 100),
+            Edge.of("b", "c", 2),
+            Edge.of("c", "a", 3)
+        ));
+
+        Graph<String> tree = KruskalMSTCalculator.FACTORY.create(graph).calculateMST("b");
+
+        assertEquals(Set.of(Edge.of("a", "b", 1), Edge.of("b", "c", 2)), tree.getEdges());
+        assertEquals(3, totalWeight(tree));
+    }
+
+    @Test
+    public void testSpanningForest() {
+        Graph<Integer> graph = undirected(Set.of(1, 2, 3, 4, 5), Set.of(
+            Edge.of(1, 2, 3),
+            Edge.of(2, 3, 1),
+            Edge.of(1, 3, 2),
+            Edge.of(4, 5, 7)
+        ));
+
+        Graph<Integer> forest = KruskalMSTCalculator.FACTORY.create(graph).calculateMST(1);
+
+        assertEquals(3, forest.getEdges().size());
+        assertEquals(10, totalWeight(forest));
+        assertEquals(1, forest.getAllAdjacentEdges(4).size());
+    }
+}
@@ -0,0 +1,151 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link Landmarks}.
+ */
+public class LandmarksTest {
+
+    @Test
+    public void testExplicitLandmarks() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 1),
+            Edge.of("C", "B", 2),
+            Edge.of("B", "D", 1)
+        ));
+        Landmarks<String> landmarks = Landmarks.of(graph, List.of("A", "D"), ForkJoinPool.commonPool());
+
+        assertEquals(List.of("A", "D"), landmarks.getLandmarks());
+        assertEquals(4, landmarks.lowerBound("A", "D"));
+        assertEquals(3, landmarks.lowerBound("C", "D"));
+        assertEquals(0, landmarks.lowerBound("D", "A"));
+        assertThrows(IllegalArgumentException.class, () -> landmarks.lowerBound("A", "E"));
+    }
+
+    @Test
+    public void testNegativeWeights() {
+        Graph<String> graph = Graph.of(Set.of("A", "B"), Set.of(Edge.of("A", "B", -1)));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> Landmarks.select(graph, 1, Landmarks.Selection.FARTHEST, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void testHeuristicIsAdmissible() {
+        Random random = new Random(20);
+        Graph<Integer> graph = randomGraph(random, 200, 800, 1);
+
+        for (Landmarks.Selection selection : Landmarks.Selection.values()) {
+            Landmarks<Integer> landmarks = Landmarks.select(graph, 4, selection, ForkJoinPool.commonPool());
+            AStarPathCalculator<Integer> calculator = new AStarPathCalculator<>(graph, landmarks.heuristic());
+            AStarPathCalculator<Integer> uninformed = new AStarPathCalculator<>(graph, (node, end) -> 0);
+            DijkstraPathCalculator<Integer> dijkstra = new DijkstraPathCalculator<>(graph);
+
+            assertEquals(4, landmarks.getLandmarks().size());
+            assertEquals(4, Set.copyOf(landmarks.getLandmarks()).size());
+
+            for (int i = 0; i < 30; i++) {
+                int start = random.nextInt(200);
+                int end = random.nextInt(200);
+                List<Integer> expected = dijkstra.calculatePath(start, end);
+
+                assertTrue(landmarks.lowerBound(start, end) <= pathLength(graph, expected) || expected.isEmpty());
+                assertEquals(pathLength(graph, expected), pathLength(graph, calculator.calculatePath(start, end)));
+
+                uninformed.calculatePath(start, end);
+                assertTrue(calculator.getSettledCount() <= uninformed.getSettledCount());
+            }
+        }
+    }
+
+    @Test
+    public void testMoreLandmarksThanNodes() {
+        Graph<String> graph = Graph.of(Set.of("A", "B"), Set.of(Edge.of("A", "B", 3)));
+        Landmarks<String> landmarks = Landmarks.select(graph, 5, Landmarks.Selection.AVOID,
+            ForkJoinPool.commonPool());
+
+        assertEquals(2, landmarks.getLandmarks().size());
+        assertEquals(3, landmarks.lowerBound("A", "B"));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        Graph<Integer> graph = randomGraph(new Random(21), 50, 200, 1);
+        Landmarks<Integer> landmarks = Landmarks.select(graph, 3, Landmarks.Selection.FARTHEST,
+            ForkJoinPool.commonPool());
+        Path file = Files.createTempFile("landmarks", ".bin");
+
+        try {
+            landmarks.save(file, (out, node) -> out.writeInt(node));
+
+            Landmarks<Integer> copy = Landmarks.load(file, in -> in.readInt());
+
+            assertEquals(landmarks.getLandmarks(), copy.getLandmarks());
+
+            for (int from = 0; from < 50; from++) {
+                for (int to = 0; to < 50; to++) {
+                    assertEquals(landmarks.lowerBound(from, to), copy.lowerBound(from, to));
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testCorruptStreams() throws IOException {
+        assertCorrupt(-1);
+        assertCorrupt(Integer.MAX_VALUE);
+        assertCorrupt(2, 0, 1, -1);
+        assertCorrupt(2, 0, 1, 3);
+        assertCorrupt(2, 0, 1, 1, 2);
+        assertCorrupt(2, 0, 1, 1, 1, 0, 5, -3, 0);
+
+        int[] values = new int[50_002];
+        values[0] = 50_000;
+        values[50_001] = 50_000;
+        assertCorrupt(values);
+    }
+
+    /**
+     * Asserts that reading landmarks from a stream that contains the header followed by the given values fails with an
+     * {@link IOException}.
+     *
+     * @param values the values to write after the header.
+     * @throws IOException if writing the stream fails.
+     */
+    private static void assertCorrupt(int... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(0x50334c4d);
+        out.writeInt(1);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertThrows(IOException.class, () -> Landmarks.readFrom(in, input -> input.readInt()));
+    }
+}
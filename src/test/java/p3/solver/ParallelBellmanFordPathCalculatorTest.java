@@ -0,0 +1,119 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static p3.solver.DijkstraPathCalculatorTest.pathLength;
+import static p3.solver.DijkstraPathCalculatorTest.randomGraph;
+
+/**
+ * Tests for {@link ParallelBellmanFordPathCalculator}.
+ */
+public class ParallelBellmanFordPathCalculatorTest {
+
+    @Test
+    public void testShortestPath() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 4),
+            Edge.of("A", "C", 1),
+            Edge.of("C", "B", -2),
+            Edge.of("B", "D", 3),
+            Edge.of("C", "D", 5)
+        ));
+
+        assertEquals(List.of("A", "C", "B", "D"),
+            ParallelBellmanFordPathCalculator.FACTORY.create(graph).calculatePath("A", "D"));
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", -3),
+            Edge.of("C", "B", 1),
+            Edge.of("C", "D", 1)
+        ));
+
+        assertThrows(CycleException.class,
+            () -> ParallelBellmanFordPathCalculator.FACTORY.create(graph).calculatePath("A", "D"));
+    }
+
+    @Test
+    public void testZeroWeightCycle() {
+        Graph<Integer> graph = Graph.of(Set.of(1, 2, 3), Set.of(
+            Edge.of(1, 2, 0),
+            Edge.of(2, 1, 0),
+            Edge.of(2, 3, 2)
+        ));
+
+        assertEquals(List.of(1, 2, 3), ParallelBellmanFordPathCalculator.FACTORY.create(graph).calculatePath(1, 3));
+    }
+
+    @Test
+    public void testPredecessorsOnTies() {
+        Random random = new Random(14);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int run = 0; run < 5; run++) {
+                // Weights in [0, 2) produce many shortest paths of equal length and cycles of weight 0
+                Graph<Integer> weighted = randomGraph(random, 300, 1500, 0);
+                Set<Edge<Integer>> edges = new HashSet<>();
+                Set<List<Integer>> pairs = new HashSet<>();
+
+                for (Edge<Integer> edge : weighted.getEdges()) {
+                    if (pairs.add(List.of(edge.from(), edge.to()))) {
+                        edges.add(Edge.of(edge.from(), edge.to(), edge.weight() % 2));
+                    }
+                }
+
+                Graph<Integer> graph = Graph.of(weighted.getNodes(), edges);
+                ShortestPathTree<Integer> tree = ParallelBellmanFordPathCalculator.factory(pool).create(graph)
+                    .calculateFrom(0);
+                ShortestPathTree<Integer> expected = BellmanFordPathCalculator.EARLY_EXIT_FACTORY.create(graph)
+                    .calculateFrom(0);
+
+                for (int end = 0; end < 300; end++) {
+                    List<Integer> path = tree.pathTo(end);
+
+                    assertEquals(expected.distanceTo(end), tree.distanceTo(end));
+                    assertEquals(0, (int) path.get(0));
+                    assertEquals(end, (int) path.get(path.size() - 1));
+                    assertEquals(tree.distanceTo(end), pathLength(graph, path));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSameLengthAsBellmanFord() {
+        Random random = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int run = 0; run < 5; run++) {
+                Graph<Integer> graph = randomGraph(random, 500, 3000, 5);
+                PathCalculator<Integer> calculator = ParallelBellmanFordPathCalculator.factory(pool).create(graph);
+
+                for (int end = 0; end < 500; end += 97) {
+                    assertEquals(
+                        pathLength(graph, BellmanFordPathCalculator.EARLY_EXIT_FACTORY.create(graph).calculatePath(0, end)),
+                        pathLength(graph, calculator.calculatePath(0, end))
+                    );
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
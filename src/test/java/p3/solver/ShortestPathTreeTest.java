@@ -0,0 +1,73 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PathCalculator#calculateFrom(Object)} and {@link ShortestPathTree}.
+ */
+public class ShortestPathTreeTest {
+
+    private final Graph<String> graph = Graph.of(Set.of("A", "B", "C", "D", "E"), Set.of(
+        Edge.of("A", "B", 4),
+        Edge.of("A", "C", 1),
+        Edge.of("C", "B", 2),
+        Edge.of("B", "D", 1),
+        Edge.of("C", "D", 5)
+    ));
+
+    private final List<PathCalculator.Factory> factories = List.of(
+        BellmanFordPathCalculator.FACTORY,
+        BellmanFordPathCalculator.EARLY_EXIT_FACTORY,
+        SpfaPathCalculator.FACTORY,
+        DijkstraPathCalculator.FACTORY,
+        ParallelBellmanFordPathCalculator.FACTORY,
+        DeltaSteppingPathCalculator.factory(1, ForkJoinPool.commonPool())
+    );
+
+    @Test
+    public void testTree() {
+        for (PathCalculator.Factory factory : factories) {
+            ShortestPathTree<String> tree = factory.<String>create(graph).calculateFrom("A");
+
+            assertEquals("A", tree.getStart());
+            assertEquals(List.of("A"), tree.pathTo("A"));
+            assertEquals(List.of("A", "C", "B"), tree.pathTo("B"));
+            assertEquals(List.of("A", "C", "B", "D"), tree.pathTo("D"));
+            assertEquals(0, tree.distanceTo("A"));
+            assertEquals(3, tree.distanceTo("B"));
+            assertEquals(4, tree.distanceTo("D"));
+        }
+    }
+
+    @Test
+    public void testUnreachableAndUnknownNodes() {
+        for (PathCalculator.Factory factory : factories) {
+            ShortestPathTree<String> tree = factory.<String>create(graph).calculateFrom("A");
+
+            assertFalse(tree.isReachable("E"));
+            assertEquals(Integer.MAX_VALUE, tree.distanceTo("E"));
+            assertEquals(List.of(), tree.pathTo("E"));
+            assertThrows(IllegalArgumentException.class, () -> tree.distanceTo("F"));
+        }
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        Graph<Integer> cyclic = Graph.of(Set.of(1, 2, 3), Set.of(
+            Edge.of(1, 2, 1),
+            Edge.of(2, 3, -2),
+            Edge.of(3, 2, 1)
+        ));
+
+        assertThrows(CycleException.class, () -> BellmanFordPathCalculator.FACTORY.create(cyclic).calculateFrom(1));
+        assertThrows(CycleException.class, () -> SpfaPathCalculator.FACTORY.create(cyclic).calculateFrom(1));
+    }
+}
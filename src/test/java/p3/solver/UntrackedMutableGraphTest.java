@@ -0,0 +1,117 @@
+package p3.solver;
+
+import org.junit.jupiter.api.Test;
+import p3.graph.Edge;
+import p3.graph.Graph;
+import p3.graph.MutableGraph;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the calculators that reuse data derived from a graph notice modifications of a {@link MutableGraph} that
+ * does not override {@link Graph#getModificationCount()}.
+ */
+public class UntrackedMutableGraphTest {
+
+    @Test
+    public void testPathCalculators() {
+        List<PathCalculator.Factory> factories = List.of(
+            DijkstraPathCalculator.FACTORY,
+            BidirectionalDijkstraPathCalculator.FACTORY,
+            ContractionHierarchyPathCalculator.FACTORY,
+            CachingPathCalculator.factory(DijkstraPathCalculator.FACTORY, 100)
+        );
+
+        for (PathCalculator.Factory factory : factories) {
+            MutableGraph<String> graph = graph();
+            PathCalculator<String> calculator = factory.create(graph);
+
+            assertEquals(List.of("A", "B", "C"), calculator.calculatePath("A", "C"));
+
+            graph.addEdge(Edge.of("A", "C", 1));
+
+            assertEquals(List.of("A", "C"), calculator.calculatePath("A", "C"));
+        }
+    }
+
+    @Test
+    public void testTraversers() {
+        MutableGraph<String> graph = graph();
+        IterativeDFS<String> iterative = new IterativeDFS<>(graph);
+        IndexedDFS<String> indexed = new IndexedDFS<>(graph);
+
+        iterative.traverse((node, time) -> {});
+        indexed.traverse((node, time) -> {});
+        assertFalse(iterative.isCyclic());
+        assertFalse(indexed.isCyclic());
+
+        graph.addEdge(Edge.of("C", "A", 1));
+
+        iterative.traverse((node, time) -> {});
+        indexed.traverse((node, time) -> {});
+        assertTrue(iterative.isCyclic());
+        assertTrue(indexed.isCyclic());
+    }
+
+    /**
+     * Creates a graph with the path {@code A -> B -> C} that does not count its modifications.
+     *
+     * @return the new graph.
+     */
+    private static MutableGraph<String> graph() {
+        MutableGraph<String> delegate = MutableGraph.of(Set.of("A", "B", "C"), Set.of(
+            Edge.of("A", "B", 1),
+            Edge.of("B", "C", 1)
+        ));
+
+        return new UntrackedGraph<>(delegate);
+    }
+
+    /**
+     * A {@link MutableGraph} that delegates to another graph, but does not override
+     * {@link Graph#getModificationCount()}.
+     *
+     * @param delegate the graph to delegate to.
+     * @param <N>      the type of the nodes in the graph.
+     */
+    private record UntrackedGraph<N>(MutableGraph<N> delegate) implements MutableGraph<N> {
+
+        @Override
+        public void addNode(N node) {
+            delegate.addNode(node);
+        }
+
+        @Override
+        public void addEdge(Edge<N> edge) {
+            delegate.addEdge(edge);
+        }
+
+        @Override
+        public Set<N> getNodes() {
+            return delegate.getNodes();
+        }
+
+        @Override
+        public Set<Edge<N>> getEdges() {
+            return delegate.getEdges();
+        }
+
+        @Override
+        public Set<Edge<N>> getOutgoingEdges(N node) {
+            return delegate.getOutgoingEdges(node);
+        }
+
+        @Override
+        public Set<Edge<N>> getIngoingEdges(N node) {
+            return delegate.getIngoingEdges(node);
+        }
+
+        @Override
+        public Edge<N> getEdge(N from, N to) {
+            return delegate.getEdge(from, to);
+        }
+    }
+}